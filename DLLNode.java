@@ -0,0 +1,99 @@
+/**
+ * Node for a double linked list. Like Node, but with a link to the
+ * previous node as well as the next one, so that Node itself can stay
+ * next-only.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class DLLNode<E>
+{
+    private DLLNode<E> next;
+    private DLLNode<E> prev;
+    private E element;
+
+    /**
+     * Creates an empty node.
+     */
+    public DLLNode()
+    {
+        next = prev = null;
+        element = null;
+    }
+
+    /**
+     * Creates a node storing the specified element.
+     *
+     * @param elem the element to be stored within the new node
+     */
+    public DLLNode(E elem)
+    {
+        next = prev = null;
+        element = elem;
+    }
+
+    /**
+     * Returns the node that follows this one.
+     *
+     * @return the node that follows the current one
+     */
+    public DLLNode<E> getNext()
+    {
+        return next;
+    }
+
+    /**
+     * Sets the node that follows this one.
+     *
+     * @param node the node to be set to follow the current one
+     */
+    public void setNext(DLLNode<E> node)
+    {
+        next = node;
+    }
+
+    /**
+     * Returns the node that precedes this one.
+     *
+     * @return the node that precedes the current one
+     */
+    public DLLNode<E> getPrev()
+    {
+        return prev;
+    }
+
+    /**
+     * Sets the node that precedes this one.
+     *
+     * @param node the node to be set to precede the current one
+     */
+    public void setPrev(DLLNode<E> node)
+    {
+        prev = node;
+    }
+
+    /**
+     * Returns the element stored in this node.
+     *
+     * @return the element stored in this node
+     */
+    public E getElement()
+    {
+        return element;
+    }
+
+    /**
+     * Sets the element stored in this node.
+     *
+     * @param elem the element to be stored in this node
+     */
+    public void setElement(E elem)
+    {
+        element = elem;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Element: " + element + " Has next: " + (next != null) + " Has prev: " + (prev != null);
+    }
+}
@@ -0,0 +1,689 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Double linked list implementation of an indexed unsorted list that keeps
+ * its links as int slot numbers in parallel arrays instead of Node objects.
+ * Slot i holds elements[i], and next[i] and prev[i] are the slots of its
+ * neighbours. Unlinked slots are chained into a free list and reused.
+ * The whole list is three arrays, so it has few objects for the garbage
+ * collector to trace and can be copied with three bulk array copies.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUArrayLinkedList<T> implements IndexedUnsortedList<T>
+{
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int[] next;
+    private int[] prev;
+    private int head;
+    private int tail;
+    private int freeHead;
+    private int used;
+    private int size;
+    private int modCount;
+
+    /**
+     * Default constructor for an array linked list
+     */
+    public IUArrayLinkedList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an array linked list with room for the given number of elements
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     */
+    public IUArrayLinkedList(int initialCapacity)
+    {
+        if(initialCapacity < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        elements = new Object[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        head = tail = freeHead = NIL;
+        used = 0;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Copy constructor that snapshots another array linked list with three
+     * bulk array copies, keeping its slot layout and free list.
+     *
+     * @param other the list to copy
+     */
+    public IUArrayLinkedList(IUArrayLinkedList<T> other)
+    {
+        elements = Arrays.copyOf(other.elements, other.elements.length);
+        next = Arrays.copyOf(other.next, other.next.length);
+        prev = Arrays.copyOf(other.prev, other.prev.length);
+        head = other.head;
+        tail = other.tail;
+        freeHead = other.freeHead;
+        used = other.used;
+        size = other.size;
+        modCount = 0;
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        linkBefore(head, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        linkBefore(NIL, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        int prevSlot = findSlot(target);
+        if(prevSlot == NIL)
+        {
+            throw new NoSuchElementException();
+        }
+        linkBefore(next[prevSlot], element);
+        modCount++;
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        linkBefore(index == size ? NIL : slotAt(index), element);
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlink(head);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlink(tail);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        int slot = findSlot(element);
+        if(slot == NIL)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlink(slot);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        T retVal = unlink(slotAt(index));
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        elements[slotAt(index)] = element;
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return element(slotAt(index));
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        int currentIndex = 0;
+        for(int slot = head; slot != NIL; slot = next[slot])
+        {
+            if(elements[slot].equals(element))
+            {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return element(head);
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return element(tail);
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return findSlot(target) != NIL;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        for(int slot = head; slot != NIL; slot = next[slot])
+        {
+            string.append(elements[slot]);
+            if(next[slot] != NIL)
+            {
+                string.append(",");
+            }
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new ArrayLinkedListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new ArrayLinkedListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        if(startingIndex < 0 || startingIndex > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new ArrayLinkedListIterator(startingIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int slot)
+    {
+        return (T) elements[slot];
+    }
+
+    /**
+     * Returns the slot of the first element equal to target.
+     *
+     * @param target the element being sought
+     * @return the first matching slot, or NIL if target is not in the list
+     */
+    private int findSlot(T target)
+    {
+        int slot = head;
+        while(slot != NIL && !elements[slot].equals(target))
+        {
+            slot = next[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot holding the element at the given index, walking from whichever end is nearer.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the slot at index
+     */
+    private int slotAt(int index)
+    {
+        int slot;
+        if(index < size / 2)
+        {
+            slot = head;
+            for(int i = 0; i < index; i++)
+            {
+                slot = next[slot];
+            }
+        } else
+        {
+            slot = tail;
+            for(int i = size - 1; i > index; i--)
+            {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Takes a slot from the free list, or the next unused slot, growing the arrays when full.
+     *
+     * @return a slot ready to be linked
+     */
+    private int allocate()
+    {
+        if(freeHead != NIL)
+        {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if(used == elements.length)
+        {
+            int capacity = elements.length * 2;
+            elements = Arrays.copyOf(elements, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        return used++;
+    }
+
+    /**
+     * Links a new slot holding element before nextSlot, or at the rear if nextSlot is NIL.
+     * Updates size but not modCount.
+     *
+     * @param nextSlot the slot that will follow the new one, or NIL
+     * @param element  the element to store
+     * @return the new slot
+     */
+    private int linkBefore(int nextSlot, T element)
+    {
+        int slot = allocate();
+        int prevSlot = nextSlot == NIL ? tail : prev[nextSlot];
+        elements[slot] = element;
+        prev[slot] = prevSlot;
+        next[slot] = nextSlot;
+        if(prevSlot == NIL)
+        {
+            head = slot;
+        } else
+        {
+            next[prevSlot] = slot;
+        }
+        if(nextSlot == NIL)
+        {
+            tail = slot;
+        } else
+        {
+            prev[nextSlot] = slot;
+        }
+        size++;
+        return slot;
+    }
+
+    /**
+     * Unlinks a slot and returns it to the free list.
+     * Updates size but not modCount.
+     *
+     * @param slot the slot to unlink
+     * @return the element the slot held
+     */
+    private T unlink(int slot)
+    {
+        T retVal = element(slot);
+        if(prev[slot] == NIL)
+        {
+            head = next[slot];
+        } else
+        {
+            next[prev[slot]] = next[slot];
+        }
+        if(next[slot] == NIL)
+        {
+            tail = prev[slot];
+        } else
+        {
+            prev[next[slot]] = prev[slot];
+        }
+        elements[slot] = null;
+        prev[slot] = NIL;
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+        return retVal;
+    }
+
+    private class ArrayLinkedListIterator implements ListIterator<T>
+    {
+        //variables
+        private int nextSlot;
+        private int nextIndex;
+        private int iterModCount;
+        private boolean canChange;
+        private int lastReturned;
+
+        //constructor
+        public ArrayLinkedListIterator(int index)
+        {
+            nextSlot = index < size ? slotAt(index) : NIL;
+            nextIndex = index;
+            this.iterModCount = modCount;
+            canChange = false;
+            lastReturned = NIL;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextSlot != NIL;
+        }
+
+        @Override
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            canChange = true;
+            return element(lastReturned);
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            nextSlot = nextSlot == NIL ? tail : prev[nextSlot];
+            nextIndex--;
+            lastReturned = nextSlot;
+            canChange = true;
+            return element(lastReturned);
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == NIL)
+            {
+                throw new IllegalStateException();
+            }
+            if(lastReturned == nextSlot)
+            {
+                nextSlot = next[nextSlot];
+            } else
+            {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            modCount++;
+            iterModCount++;
+            lastReturned = NIL;
+            canChange = false;
+        }
+
+        @Override
+        public void set(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == NIL)
+            {
+                throw new IllegalStateException();
+            }
+            elements[lastReturned] = e;
+            modCount++;
+            iterModCount++;
+            canChange = false;
+        }
+
+        @Override
+        public void add(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            linkBefore(nextSlot, e);
+            nextIndex++;
+            modCount++;
+            iterModCount++;
+            lastReturned = NIL;
+            canChange = false;
+        }
+    }
+}
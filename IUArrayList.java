@@ -0,0 +1,788 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Gap buffer implementation of an indexed unsorted list. Elements are kept
+ * in one array with a run of empty slots, the gap, somewhere inside it.
+ * Inserting or removing at the gap only moves its edges, so bursts of
+ * changes at one cursor cost O(1) amortized each. The gap moves to a
+ * new position by copying the elements in between, and get(int) is O(1).
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUArrayList<T> implements IndexedUnsortedList<T>
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] buffer;
+    private int gapStart;
+    private int gapEnd;
+    private int modCount;
+
+    /**
+     * Default constructor for an array list
+     */
+    public IUArrayList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an array list with room for the given number of elements
+     *
+     * @param initialCapacity the number of slots to allocate up front
+     * @throws IllegalArgumentException if initialCapacity is less than 1
+     */
+    public IUArrayList(int initialCapacity)
+    {
+        if(initialCapacity < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        buffer = new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+        modCount = 0;
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        insert(0, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        insert(size(), element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        int index = indexOf(target);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        insert(index + 1, element);
+        modCount++;
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        insert(index, element);
+        modCount++;
+    }
+
+    /*
+     * Adds every element of the given source to the rear of this list, in order.
+     *
+     * @param elements the elements to be added to the rear of this list
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elements)
+    {
+        addAll(size(), elements);
+    }
+
+    /*
+     * Inserts every element of the given source at the specified index, in order.
+     * The gap moves to index once and each element then fills it from the
+     * front. A Collection source is presized, so the buffer grows at most once.
+     *
+     * @param index    the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements)
+    {
+        if(index < 0 || index > size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(elements == this)
+        {
+            elements = copyElements();
+        }
+        if(elements instanceof Collection)
+        {
+            ensureGap(((Collection<?>) elements).size());
+        }
+        int start = index;
+        for(T element : elements)
+        {
+            insert(index++, element);
+        }
+        if(index != start)
+        {
+            modCount++;
+        }
+    }
+
+    /*
+     * Adds len elements of src, starting at src[off], to the rear of this list, in order.
+     * The gap is moved to the rear and widened once, then the elements are copied in
+     * with one array copy.
+     *
+     * @param src the array holding the elements to be added
+     * @param off the index in src of the first element to add
+     * @param len the number of elements to add
+     * @throws IndexOutOfBoundsException if off < 0, len < 0 or off + len > src.length
+     */
+    @Override
+    public void addBatch(T[] src, int off, int len)
+    {
+        if(off < 0 || len < 0 || len > src.length - off)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(len == 0)
+        {
+            return;
+        }
+        ensureGap(len);
+        moveGap(size());
+        System.arraycopy(src, off, buffer, gapStart, len);
+        gapStart += len;
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = delete(0);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = delete(size() - 1);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        int index = indexOf(element);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = delete(index);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        T retVal = delete(index);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive.
+     * The gap is moved to the range once and then widened over it, so the
+     * cost is one gap move plus clearing the removed slots. Bumps modCount once.
+     *
+     * @param fromIndex the index of the first element to remove
+     * @param toIndex   the index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if(fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(fromIndex == toIndex)
+        {
+            return;
+        }
+        moveGap(fromIndex);
+        int count = toIndex - fromIndex;
+        Arrays.fill(buffer, gapEnd, gapEnd + count, null);
+        gapEnd += count;
+        modCount++;
+    }
+
+    /*
+     * Removes every element from this list, keeping the buffer's capacity.
+     * Bumps modCount once.
+     */
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buffer, null);
+        gapStart = 0;
+        gapEnd = buffer.length;
+        modCount++;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        buffer[slot(index)] = element;
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0 || index >= size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return element(slot(index));
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        for(int i = 0; i < gapStart; i++)
+        {
+            if(buffer[i].equals(element))
+            {
+                return i;
+            }
+        }
+        for(int i = gapEnd; i < buffer.length; i++)
+        {
+            if(buffer[i].equals(element))
+            {
+                return i - gapLength();
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return element(slot(0));
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return element(slot(size() - 1));
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return indexOf(target) > -1;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return buffer.length - gapLength();
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        for(int i = 0; i < gapStart; i++)
+        {
+            string.append(buffer[i]);
+            string.append(",");
+        }
+        for(int i = gapEnd; i < buffer.length; i++)
+        {
+            string.append(buffer[i]);
+            string.append(",");
+        }
+        if(string.length() > 1)
+        {
+            string.setLength(string.length() - 1);
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new GapBufferIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new GapBufferIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        if(startingIndex < 0 || startingIndex > size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new GapBufferIterator(startingIndex);
+    }
+
+    /*
+     * Returns a BatchCursor over the elements in this list. Each batch is
+     * copied out of the buffer with at most two array copies, one on each
+     * side of the gap.
+     *
+     * @return a BatchCursor over the elements in this list
+     */
+    @Override
+    public BatchCursor<T> batchCursor()
+    {
+        return new GapBufferBatchCursor();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int slot)
+    {
+        return (T) buffer[slot];
+    }
+
+    private int gapLength()
+    {
+        return gapEnd - gapStart;
+    }
+
+    /**
+     * Returns the array slot holding the element at the given index.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the slot at index
+     */
+    private int slot(int index)
+    {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    /**
+     * Moves the gap so that it starts at index, copying the elements it passes over.
+     *
+     * @param index an index between 0 and size
+     */
+    private void moveGap(int index)
+    {
+        if(index < gapStart)
+        {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if(index > gapStart)
+        {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Inserts element at index, moving the gap there and doubling the buffer if it is full.
+     * Does not update modCount.
+     *
+     * @param index   an index between 0 and size
+     * @param element the element to store
+     */
+    private void insert(int index, T element)
+    {
+        moveGap(index);
+        ensureGap(1);
+        buffer[gapStart++] = element;
+    }
+
+    /**
+     * Grows the buffer, at least doubling it, if the gap is narrower than the given length.
+     *
+     * @param length the number of empty slots needed in the gap
+     */
+    private void ensureGap(int length)
+    {
+        if(gapLength() < length)
+        {
+            int tailLength = buffer.length - gapEnd;
+            Object[] grown = new Object[Math.max(buffer.length * 2, size() + length)];
+            System.arraycopy(buffer, 0, grown, 0, gapStart);
+            System.arraycopy(buffer, gapEnd, grown, grown.length - tailLength, tailLength);
+            gapEnd = grown.length - tailLength;
+            buffer = grown;
+        }
+    }
+
+    /**
+     * Copies the elements of this list, in order, into a separate list.
+     *
+     * @return the copied elements
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<T> copyElements()
+    {
+        Object[] copy = new Object[size()];
+        System.arraycopy(buffer, 0, copy, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, copy, gapStart, buffer.length - gapEnd);
+        return (Collection<T>) Arrays.asList(copy);
+    }
+
+    /**
+     * Removes the element at index. The element just before the gap or just
+     * after it is removed by widening the gap without copying anything.
+     * Does not update modCount.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the removed element
+     */
+    private T delete(int index)
+    {
+        T retVal;
+        if(index == gapStart - 1)
+        {
+            retVal = element(--gapStart);
+            buffer[gapStart] = null;
+        } else
+        {
+            moveGap(index);
+            retVal = element(gapEnd);
+            buffer[gapEnd++] = null;
+        }
+        return retVal;
+    }
+
+    private class GapBufferBatchCursor implements BatchCursor<T>
+    {
+        //variables
+        private int nextIndex;
+        private final int expectedModCount;
+
+        //constructor
+        public GapBufferBatchCursor()
+        {
+            nextIndex = 0;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public int nextBatch(T[] buffer)
+        {
+            if(expectedModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            int count = Math.min(buffer.length, size() - nextIndex);
+            int beforeGap = Math.max(0, Math.min(count, gapStart - nextIndex));
+            System.arraycopy(IUArrayList.this.buffer, nextIndex, buffer, 0, beforeGap);
+            System.arraycopy(IUArrayList.this.buffer, slot(nextIndex + beforeGap), buffer, beforeGap, count - beforeGap);
+            nextIndex += count;
+            return count;
+        }
+    }
+
+    private class GapBufferIterator implements ListIterator<T>
+    {
+        //variables
+        private int nextIndex;
+        private int iterModCount;
+        private int lastReturned;
+
+        //constructor
+        public GapBufferIterator(int index)
+        {
+            nextIndex = index;
+            this.iterModCount = modCount;
+            lastReturned = -1;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size();
+        }
+
+        @Override
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextIndex++;
+            return element(slot(lastReturned));
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --nextIndex;
+            return element(slot(lastReturned));
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            delete(lastReturned);
+            nextIndex = lastReturned;
+            modCount++;
+            iterModCount++;
+            lastReturned = -1;
+        }
+
+        @Override
+        public void set(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            buffer[slot(lastReturned)] = e;
+            modCount++;
+            iterModCount++;
+            lastReturned = -1;
+        }
+
+        @Override
+        public void add(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            insert(nextIndex++, e);
+            modCount++;
+            iterModCount++;
+            lastReturned = -1;
+        }
+    }
+}
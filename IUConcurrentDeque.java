@@ -0,0 +1,458 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Lock-free concurrent implementation of an indexed unsorted list.
+ * Elements live in a java.util.concurrent.ConcurrentLinkedDeque, whose
+ * head and tail operations are CAS-based and never block, so producers
+ * calling addToRear and consumers calling removeFirst from many threads
+ * do not contend on a monitor.
+ *
+ * Iterators are weakly consistent: they never throw
+ * ConcurrentModificationException and may or may not reflect changes made
+ * after they were created. Positional and search methods walk the deque
+ * and are O(n) best-effort snapshots under concurrent change. Operations
+ * that would need a consistent view of the middle of the list, set,
+ * addAfter, add(int, T) away from the ends, removeRange and listIterator,
+ * are not supported. add(int, T) and addAll(int, Iterable) at the size
+ * compare the index against a size that may change before the elements are
+ * added, so an append there is not atomic. Null elements are not permitted.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUConcurrentDeque<T> implements IndexedUnsortedList<T>
+{
+    private final ConcurrentLinkedDeque<T> deque;
+
+    /**
+     * Default constructor for a concurrent deque
+     */
+    public IUConcurrentDeque()
+    {
+        deque = new ConcurrentLinkedDeque<T>();
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        deque.addFirst(element);
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        deque.addLast(element);
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void add(T element)
+    {
+        deque.addLast(element);
+    }
+
+    /*
+     * Not supported: there is no lock-free way to insert after an interior element.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Inserts the specified element at the front when index is 0, or at the
+     * rear when index equals the current size. Inserting anywhere else is not
+     * supported. Adding at index 0 is atomic. Adding at the size is
+     * best-effort: the size is an O(n) walk taken before the element is
+     * added, so a concurrent change can mean the element does not end up at
+     * that index. Use addToRear to append without checking the size.
+     *
+     * @param index   0 or the current size
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     * @throws UnsupportedOperationException if index is neither 0 nor size
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index == 0)
+        {
+            deque.addFirst(element);
+            return;
+        }
+        int size = deque.size();
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(index != size)
+        {
+            throw new UnsupportedOperationException();
+        }
+        deque.addLast(element);
+    }
+
+    /*
+     * Inserts every element of the given source at the front when index is 0,
+     * or at the rear when index equals the current size, in order. The index
+     * is checked before the deque is changed, so an unsupported index leaves
+     * it untouched. As with add(int, T), an index equal to the size is
+     * checked against a best-effort size. A deque may be added to itself.
+     *
+     * @param index    0 or the current size
+     * @param elements the elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     * @throws UnsupportedOperationException if index is neither 0 nor size
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements)
+    {
+        if(index == 0)
+        {
+            ArrayList<T> copy = new ArrayList<T>();
+            for(T element : elements)
+            {
+                copy.add(element);
+            }
+            for(int i = copy.size() - 1; i >= 0; i--)
+            {
+                deque.addFirst(copy.get(i));
+            }
+            return;
+        }
+        int size = deque.size();
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(index != size)
+        {
+            throw new UnsupportedOperationException();
+        }
+        addAll(elements == this ? new ArrayList<T>(deque) : elements);
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        T retVal = deque.pollFirst();
+        if(retVal == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        T retVal = deque.pollLast();
+        if(retVal == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        Iterator<T> itr = deque.iterator();
+        while(itr.hasNext())
+        {
+            T current = itr.next();
+            if(current.equals(element))
+            {
+                itr.remove();
+                return current;
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    /*
+     * Removes and returns the element at the specified index, as seen by a walk from the front.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        Iterator<T> itr = deque.iterator();
+        for(int i = 0; itr.hasNext(); i++)
+        {
+            T current = itr.next();
+            if(i == index)
+            {
+                itr.remove();
+                return current;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    /*
+     * Not supported: a concurrent consumer can shrink the deque between
+     * the seek and the removals, so no range can be removed atomically.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Removes every element from this list. Elements added while the clear
+     * runs may or may not be removed.
+     */
+    @Override
+    public void clear()
+    {
+        deque.clear();
+    }
+
+    /*
+     * Not supported: there is no lock-free way to replace an interior element.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Returns the element at the specified index, as seen by a walk from the front.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        int currentIndex = 0;
+        for(T current : deque)
+        {
+            if(currentIndex == index)
+            {
+                return current;
+            }
+            currentIndex++;
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        int currentIndex = 0;
+        for(T current : deque)
+        {
+            if(current.equals(element))
+            {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        T retVal = deque.peekFirst();
+        if(retVal == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return retVal;
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        T retVal = deque.peekLast();
+        if(retVal == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return retVal;
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return deque.contains(target);
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return deque.isEmpty();
+    }
+
+    /*
+     * Returns the number of elements in this list. This walks the deque and
+     * is only a snapshot while other threads are changing it.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return deque.size();
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        for(T current : deque)
+        {
+            string.append(current);
+            string.append(",");
+        }
+        if(string.length() > 1)
+        {
+            string.setLength(string.length() - 1);
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns a weakly consistent Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return deque.iterator();
+    }
+
+    /*
+     * Not supported by this list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Not supported by this list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Returns the deque's own weakly consistent Spliterator. It does not
+     * report SIZED, since the size can change while a stream runs.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return deque.spliterator();
+    }
+}
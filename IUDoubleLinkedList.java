@@ -1,7 +1,23 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Double linked list implementation of an indexed unsorted list.
@@ -10,19 +26,81 @@ import java.util.NoSuchElementException;
  */
 public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T>
 {
-    private Node<T> head;
-    private Node<T> tail;
+    //parallelSort gives each segment at least this many elements
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    //a spliterator with fewer elements than this left will not split
+    private static final int SPLIT_THRESHOLD = 1 << 10;
+    //parallel scans give each segment at least this many elements
+    private static final int PARALLEL_SCAN_THRESHOLD = 1 << 13;
+
+    private DLLNode<T> head;
+    private DLLNode<T> tail;
+    //while true, the list runs from tail to head and each node's prev link is its logical next
+    private boolean reversed;
     private int size;
     private int modCount;
+    private final HashMap<T, HashSet<DLLNode<T>>> nodeIndex;
+    private final int maxRecycledNodes;
+    private DLLNode<T> recycledNodes;
+    private int recycledCount;
+    //every checkpointSpacing-th node in list order, dropped by any change that moves or unlinks nodes
+    private DLLNode<T>[] checkpoints;
+    private int checkpointSpacing;
+    //the list size the directory was last built or extended for
+    private int checkpointSize;
+    //token shared by every live handle of this list, created by the first handle and dropped by clear()
+    private HandleOwner handleOwner;
 
     /**
-     * Default constructor for a single linked list
+     * Default constructor for a double linked list with no node index and no node recycling
      */
     public IUDoubleLinkedList()
     {
+        this(false);
+    }
+
+    /**
+     * Constructor for a double linked list that can keep a hash index from
+     * each element to the nodes holding it. With the index, contains is O(1)
+     * expected time. For an element held by one node, remove(T) and addAfter
+     * find their node in O(1) expected time and indexOf only counts back from
+     * that node to the head. For an element held by several nodes the index
+     * does not know which comes first, so those three walk from the head to
+     * the first of them, O(n) in the worst case.
+     *
+     * @param indexed true to maintain the element to node index
+     */
+    public IUDoubleLinkedList(boolean indexed)
+    {
+        this(indexed, 0);
+    }
+
+    /**
+     * Constructor for a double linked list that can recycle unlinked nodes.
+     * Up to maxRecycledNodes removed nodes are cleared and kept on a free
+     * list, and inserts reuse them before allocating, so steady add/remove
+     * churn allocates no nodes.
+     *
+     * @param indexed          true to maintain the element to node index
+     * @param maxRecycledNodes the most unlinked nodes to keep for reuse, 0 to disable recycling
+     * @throws IllegalArgumentException if maxRecycledNodes is negative
+     */
+    public IUDoubleLinkedList(boolean indexed, int maxRecycledNodes)
+    {
+        if(maxRecycledNodes < 0)
+        {
+            throw new IllegalArgumentException();
+        }
         head = tail = null;
+        reversed = false;
         size = 0;
         modCount = 0;
+        nodeIndex = indexed ? new HashMap<T, HashSet<DLLNode<T>>>() : null;
+        this.maxRecycledNodes = maxRecycledNodes;
+        recycledNodes = null;
+        recycledCount = 0;
+        checkpoints = null;
+        handleOwner = null;
     }
 
     /*
@@ -33,17 +111,8 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T>
     @Override
     public void addToFront(T element) 
     {
-        Node<T> newNode = new Node<T>(element);
-        newNode.setNext(head);
-        if(head != null)
-        {
-            head.setPrev(newNode);
-        } else
-        {
-            tail = newNode;
-        }
-        head = newNode;
-        size++;
+        DLLNode<T> newNode = newNode(element);
+        splice(front(), newNode, newNode, 1);
         modCount++;
     }
 
@@ -55,17 +124,8 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T>
     @Override
     public void addToRear(T element) 
     {
-        Node<T> newNode = new Node<T>(element);
-        newNode.setPrev(tail);
-        if(tail != null)
-        {
-            tail.setNext(newNode);
-        } else
-        {
-            head = newNode;
-        }
-        tail = newNode;
-        size++;
+        DLLNode<T> newNode = newNode(element);
+        splice(null, newNode, newNode, 1);
         modCount++;
     }
 
@@ -90,27 +150,13 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T>
     @Override
     public void addAfter(T element, T target) 
     {
-        if(indexOf(target) == -1)
+        DLLNode<T> prevNode = findNode(target);
+        if(prevNode == null)
         {
             throw new NoSuchElementException();
         }
-        Node<T> newNode = new Node<T>(element);
-        Node<T> prevNode = head;
-        while(!prevNode.getElement().equals(target))
-        {
-            prevNode = prevNode.getNext();
-        }
-        newNode.setNext((prevNode.getNext()));
-        newNode.setPrev(prevNode);
-        if(prevNode.getNext() != null)
-        {
-            prevNode.getNext().setPrev(newNode);
-        } else
-        {
-            tail = newNode;
-        }
-        prevNode.setNext(newNode);
-        size++;
+        DLLNode<T> newNode = newNode(element);
+        splice(nextOf(prevNode), newNode, newNode, 1);
         modCount++;
     }
 
@@ -128,553 +174,3088 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T>
         {
             throw new IndexOutOfBoundsException();
         }
-        ListIterator<T> itr = listIterator(0);
-        for(int i = 0; i < index; i++)
-        {
-            itr.next();
-        }
-        itr.add(element);
+        DLLNode<T> newNode = newNode(element);
+        splice(index == size ? null : nodeAt(index), newNode, newNode, 1);
+        modCount++;
     }
 
-    /*  
-     * Removes and returns the first element from this list. 
-     * 
-     * @return the first element from this list
-     * @throws NoSuchElementException if list contains no elements
+    /*
+     * Adds every element of the given source to the rear of this list, in order.
+     *
+     * @param elements the elements to be added to the rear of this list
      */
     @Override
-    public T removeFirst() 
+    public void addAll(Iterable<? extends T> elements)
     {
-        if(size == 0)
+        addAll(size, elements);
+    }
+
+    /*
+     * Inserts every element of the given source at the specified index, in order.
+     * The new nodes are built as a detached chain first, then spliced in with
+     * one walk to index and one modCount bump.
+     *
+     * @param index    the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements)
+    {
+        if(index < 0 || index > size)
         {
-            throw new NoSuchElementException();
+            throw new IndexOutOfBoundsException();
         }
-        T retVal = head.getElement();
-        if(size == 1)
+        DLLNode<T> first = null;
+        DLLNode<T> last = null;
+        int count = 0;
+        for(T element : elements)
         {
-            head = tail = null;
-        } else
+            DLLNode<T> newNode = newNode(element);
+            if(last == null)
+            {
+                first = newNode;
+            } else
+            {
+                setNextOf(last, newNode);
+                setPrevOf(newNode, last);
+            }
+            last = newNode;
+            count++;
+        }
+        if(count == 0)
         {
-        head.getNext().setPrev(null);
-        head = head.getNext();
+            return;
         }
+        splice(index == size ? null : nodeAt(index), first, last, count);
         modCount++;
-        size--;
-        return retVal;
     }
 
     /*
-     * Removes and returns the last element from this list. 
+     * Adds len elements of src, starting at src[off], to the rear of this list, in order.
+     * The new nodes are built as a detached chain and spliced on with one modCount bump.
      *
-     * @return the last element from this list
-     * @throws NoSuchElementException if list contains no elements
+     * @param src the array holding the elements to be added
+     * @param off the index in src of the first element to add
+     * @param len the number of elements to add
+     * @throws IndexOutOfBoundsException if off < 0, len < 0 or off + len > src.length
      */
     @Override
-    public T removeLast() 
+    public void addBatch(T[] src, int off, int len)
     {
-        if(size == 0)
+        if(off < 0 || len < 0 || len > src.length - off)
         {
-            throw new NoSuchElementException();
+            throw new IndexOutOfBoundsException();
         }
-        T retVal = tail.getElement();
-        if(size == 1)
+        if(len == 0)
         {
-            head = tail = null;
-        } else
+            return;
+        }
+        DLLNode<T> first = newNode(src[off]);
+        DLLNode<T> last = first;
+        for(int i = off + 1; i < off + len; i++)
         {
-        tail.getPrev().setNext(null);
-        tail = tail.getPrev();
+            DLLNode<T> newNode = newNode(src[i]);
+            setNextOf(last, newNode);
+            setPrevOf(newNode, last);
+            last = newNode;
         }
+        splice(null, first, last, len);
         modCount++;
-        size--;
-        return retVal;
     }
 
-    /*  
-     * Removes and returns the first element from the list matching the specified element.
+    /**
+     * Moves every element of other onto the rear of this list, leaving other
+     * empty. The nodes themselves are relinked, so this is O(1) unless this
+     * list keeps a node index, in which case the moved nodes are indexed in
+     * O(other.size()), or the lists face opposite ways after reverse(), in
+     * which case other's links are flipped in O(other.size()) first. Handles
+     * into other are moved over with their nodes, in O(other.size()).
+     * Iterators on either list fail fast afterwards.
      *
-     * @param element the element to be removed from the list
-     * @return removed element
-     * @throws NoSuchElementException if element is not in this list
+     * @param other the list whose elements are moved
+     * @throws IllegalArgumentException if other is this list
      */
-    @Override
-    public T remove(T element) 
+    public void concat(IUDoubleLinkedList<T> other)
     {
-        if(indexOf(element) == -1)
+        if(other == this)
         {
-            throw new NoSuchElementException();
+            throw new IllegalArgumentException();
         }
-        Node<T> currentNode = head;
-        while(!currentNode.getElement().equals(element))
+        if(other.size == 0)
         {
-            currentNode = currentNode.getNext();
+            return;
         }
-        T retVal = currentNode.getElement();
-        if(currentNode == head)
+        other.orient(reversed);
+        DLLNode<T> first = other.front();
+        DLLNode<T> last = other.rear();
+        int count = other.size;
+        boolean movesHandles = other.handleOwner != null;
+        other.detach();
+        splice(null, first, last, count);
+        if(movesHandles)
         {
-            head = currentNode.getNext();
-            if(head != null)
-            {
-                head.setPrev(null);
-            } else
+            adoptHandles(first, last);
+        }
+        modCount++;
+    }
+
+    /**
+     * Splits this list at the given index. Elements from index on are moved,
+     * in order, into a new list that is returned, and this list keeps the
+     * elements before index. Costs one walk to index from the nearer end,
+     * plus O(moved) when this list keeps a node index or has handed out
+     * handles, which move with their nodes. The new list is
+     * indexed and recycles nodes exactly when this one does.
+     *
+     * @param index the index of the first element to move
+     * @return a new list holding the elements from index to the end
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public IUDoubleLinkedList<T> splitAt(int index)
+    {
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        IUDoubleLinkedList<T> suffix = new IUDoubleLinkedList<T>(nodeIndex != null, maxRecycledNodes);
+        suffix.reversed = reversed;
+        if(index == size)
+        {
+            return suffix;
+        }
+        DLLNode<T> first = nodeAt(index);
+        DLLNode<T> last = rear();
+        int count = size - index;
+        if(nodeIndex != null)
+        {
+            for(DLLNode<T> currentNode = first; currentNode != null; currentNode = nextOf(currentNode))
             {
-                tail = null;
+                unindexNode(currentNode);
             }
-        } else if(currentNode == tail)
+        }
+        DLLNode<T> newRear = prevOf(first);
+        setRear(newRear);
+        if(newRear == null)
         {
-            tail = currentNode.getPrev();
-            tail.setNext(null);
+            setFront(null);
         } else
         {
-            currentNode.getPrev().setNext(currentNode.getNext());
-            currentNode.getNext().setPrev(currentNode.getPrev());
+            setNextOf(newRear, null);
         }
-        size--;
+        size = index;
+        checkpoints = null;
         modCount++;
-        return retVal;
+        suffix.splice(null, first, last, count);
+        if(handleOwner != null)
+        {
+            suffix.adoptHandles(first, last);
+        }
+        return suffix;
     }
 
-    /*
-     * Removes and returns the element at the specified index. 
+    /**
+     * Sorts this list in place with a bottom-up natural merge sort. Nodes are
+     * relinked rather than copied, so no extra space is used beyond a few
+     * references. Each pass merges neighbouring ascending runs, so the sort is
+     * O(n log r) for r initial runs and O(n) on a list that is already sorted.
+     * The sort is stable and bumps modCount once. If the comparator throws,
+     * every element is still in the list, in some partly sorted order.
      *
-     * @param index the index of the element to be retrieved
-     * @return the element at the given index
-     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     * @param comparator the order to sort by, or null for the natural order of the elements
+     * @throws ClassCastException if comparator is null and the elements are not Comparable
      */
-    @Override
-    public T remove(int index) 
+    public void sort(Comparator<? super T> comparator)
     {
-        if(index < 0 || index >= size)
+        orient(false);
+        DLLNode<T> sentinel = new DLLNode<T>();
+        sentinel.setNext(head);
+        try
         {
-            throw new IndexOutOfBoundsException();
-        }
-        ListIterator<T> itr = listIterator(0);
-        for(int i = 0; i < index; i++)
+            sortChain(sentinel, order(comparator));
+        } finally
         {
-            itr.next();
+            relinkFrom(sentinel.getNext());
+            modCount++;
         }
-        T retVal = itr.next();
-        itr.remove();
-        return retVal;
     }
 
-     /* 
-     * Replace the element at the specified index with the given element. 
+    /**
+     * Sorts this list like sort(Comparator), but cuts it into segments that are
+     * sorted in parallel on the common fork-join pool and then merged pairwise,
+     * also in parallel. Lists too short to split are sorted sequentially.
+     * Uses one reference per segment of extra space. If the comparator throws,
+     * every element is still in the list, in some partly sorted order.
      *
-     * @param index   the index of the element to replace
-     * @param element the replacement element to be set into the list
-     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     * @param comparator the order to sort by, or null for the natural order of the elements
+     * @throws ClassCastException if comparator is null and the elements are not Comparable
      */
-    @Override
-    public void set(int index, T element) 
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> comparator)
     {
-       if(index < 0 || index >= size)
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int segmentCount = Math.min(pool.getParallelism() * 4, size / PARALLEL_SORT_THRESHOLD);
+        if(segmentCount < 2)
         {
-            throw new IndexOutOfBoundsException();
+            sort(comparator);
+            return;
         }
-        if(index == 0)
+        orient(false);
+        Comparator<? super T> order = order(comparator);
+        DLLNode<T>[] segments = (DLLNode<T>[]) new DLLNode<?>[segmentCount];
+        DLLNode<T> currentNode = head;
+        for(int i = 0; i < segmentCount; i++)
         {
-            head.setElement(element);
-        } else
+            segments[i] = currentNode;
+            int length = size / segmentCount + (i < size % segmentCount ? 1 : 0);
+            for(int j = 1; j < length; j++)
+            {
+                currentNode = currentNode.getNext();
+            }
+            DLLNode<T> nextNode = currentNode.getNext();
+            currentNode.setNext(null);
+            currentNode = nextNode;
+        }
+        try
         {
-        ListIterator<T> itr = listIterator(0);
-        for(int i = 0; i < index; i++)
+            ArrayList<SegmentTask<T>> tasks = new ArrayList<SegmentTask<T>>();
+            for(int i = 0; i < segmentCount; i++)
+            {
+                tasks.add(new SegmentTask<T>(segments, i, 0, order));
+            }
+            runRound(pool, tasks);
+            for(int step = 1; step < segmentCount; step *= 2)
+            {
+                tasks.clear();
+                for(int i = 0; i + step < segmentCount; i += 2 * step)
+                {
+                    tasks.add(new SegmentTask<T>(segments, i, step, order));
+                }
+                runRound(pool, tasks);
+            }
+        } finally
         {
-            itr.next();
-        }
-        itr.set(element);
+            DLLNode<T> first = null;
+            DLLNode<T> last = null;
+            for(DLLNode<T> segment : segments)
+            {
+                if(segment != null)
+                {
+                    if(first == null)
+                    {
+                        first = segment;
+                    } else
+                    {
+                        last.setNext(segment);
+                    }
+                    last = segment;
+                    while(last.getNext() != null)
+                    {
+                        last = last.getNext();
+                    }
+                }
+            }
+            relinkFrom(first);
+            modCount++;
         }
     }
 
-    /* 
-     * Returns a reference to the element at the specified index. 
+    /**
+     * Runs one round of parallelSort and waits for every task in it, even
+     * once one has failed, so no task is still relinking nodes when the
+     * round's caller puts the chain back together. Then rethrows the first
+     * failure, if any.
      *
-     * @param index  the index to which the reference is to be retrieved from
-     * @return the element at the specified index
-     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     * @param pool the pool to run the round on
+     * @param tasks the tasks of this round
      */
-    @Override
-    public T get(int index) 
+    private static <E> void runRound(ForkJoinPool pool, ArrayList<SegmentTask<E>> tasks)
     {
-        if(index < 0 || index >= size)
+        pool.invoke(ForkJoinTask.adapt(() ->
         {
-            throw new IndexOutOfBoundsException();
-        }
-        Node<T> currentNode = head;
-        for(int i = 0; i < index; i++)
+            for(SegmentTask<E> task : tasks)
+            {
+                task.fork();
+            }
+            for(SegmentTask<E> task : tasks)
+            {
+                task.quietlyJoin();
+            }
+        }));
+        for(SegmentTask<E> task : tasks)
         {
-            currentNode = currentNode.getNext();
+            Throwable failure = task.getException();
+            if(failure instanceof RuntimeException)
+            {
+                throw (RuntimeException) failure;
+            } else if(failure instanceof Error)
+            {
+                throw (Error) failure;
+            } else if(failure != null)
+            {
+                throw new RuntimeException(failure);
+            }
         }
-        return currentNode.getElement();
     }
 
-    /*
-     * Returns the index of the first element from the list matching the specified element. 
+    /**
+     * Returns the index of the first element equal to the given one, like
+     * indexOf, but searches segments of the list in parallel on the common
+     * fork-join pool. Each worker starts from a checkpoint node, so none of
+     * them walks the list to find its range. Segments after one that has
+     * already matched are skipped.
      *
-     * @param element  the element for the index is to be retrieved
-     * @return the integer index for this element or -1 if element is not in the list    
+     * @param element the element to search for
+     * @return the index of the first match in list order, or -1 if there is none
+     * @throws ConcurrentModificationException if the list is changed during the search
      */
-    @Override
-    public int indexOf(T element) 
+    public int parallelIndexOf(T element)
     {
-        Node<T> currentNode = head;
-        int currentIndex = 0;
-        int returnIndex =-1;
-        while(currentNode != null && returnIndex < 0)
+        AtomicInteger firstHit = new AtomicInteger(Integer.MAX_VALUE);
+        return scanSegments((segment, first, startIndex, length, expectedModCount) ->
         {
-            if(currentNode.getElement().equals(element))
+            if(segment > firstHit.get())
             {
-                returnIndex = currentIndex;
-            } else 
+                return -1;
+            }
+            DLLNode<T> currentNode = first;
+            for(int i = 0; i < length && currentNode != null; i++)
             {
-                currentIndex++;
-                currentNode = currentNode.getNext();
+                if(currentNode.getElement().equals(element))
+                {
+                    firstHit.accumulateAndGet(segment, Math::min);
+                    return startIndex + i;
+                }
+                currentNode = scanNext(currentNode, expectedModCount);
             }
-        }
-        return returnIndex;
+            return -1;
+        }, -1, (left, right) -> left >= 0 ? left : right);
     }
 
-    /*  
-     * Returns a reference to the first element in this list. 
+    /**
+     * Returns true if this list contains the target, like contains, but
+     * searches segments of the list in parallel. Every worker stops once any
+     * of them has found a match. A list with a node index answers from the
+     * index instead.
      *
-     * @return a reference to the first element in this list
-     * @throws NoSuchElementException if list contains no elements
+     * @param target the element to search for
+     * @return true if the list contains this element, else false
+     * @throws ConcurrentModificationException if the list is changed during the search
      */
-    @Override
-    public T first() 
+    public boolean parallelContains(T target)
     {
-        if(isEmpty())
+        if(nodeIndex != null)
         {
-            throw new NoSuchElementException();
+            return contains(target);
         }
-        return head.getElement();
+        AtomicBoolean found = new AtomicBoolean();
+        return scanSegments((segment, first, startIndex, length, expectedModCount) ->
+        {
+            DLLNode<T> currentNode = first;
+            for(int i = 0; i < length && currentNode != null && !found.get(); i++)
+            {
+                if(currentNode.getElement().equals(target))
+                {
+                    found.set(true);
+                    return true;
+                }
+                currentNode = scanNext(currentNode, expectedModCount);
+            }
+            return false;
+        }, false, (left, right) -> left || right);
     }
 
-    /*
-     * Returns a reference to the last element in this list. 
+    /**
+     * Counts the elements that satisfy the given predicate, testing segments
+     * of the list in parallel. The predicate must be safe to call from
+     * several threads at once.
      *
-     * @return a reference to the last element in this list
-     * @throws NoSuchElementException if list contains no elements
+     * @param filter returns true for elements to be counted
+     * @return the number of elements that satisfy filter
+     * @throws ConcurrentModificationException if the list is changed during the count
      */
-    @Override
-    public T last() 
+    public int parallelCount(Predicate<? super T> filter)
     {
-        if(isEmpty())
+        return scanSegments((segment, first, startIndex, length, expectedModCount) ->
         {
-            throw new NoSuchElementException();
-        }
-        return tail.getElement();
+            int count = 0;
+            DLLNode<T> currentNode = first;
+            for(int i = 0; i < length && currentNode != null; i++)
+            {
+                if(filter.test(currentNode.getElement()))
+                {
+                    count++;
+                }
+                currentNode = scanNext(currentNode, expectedModCount);
+            }
+            return count;
+        }, 0, Integer::sum);
     }
 
-    /*
-     * Returns true if this list contains the specified target element. 
+    /**
+     * Folds the elements of this list into a single result, like
+     * Stream.reduce, working on segments of the list in parallel. Each
+     * segment is folded from identity with accumulator, and the segment
+     * results are then combined in list order with combiner, so the result
+     * matches a sequential fold whenever combiner is associative and
+     * compatible with accumulator.
      *
-     * @param target the target that is being sought in the list
-     * @return true if the list contains this element, else false
+     * @param <R>         the type of the result
+     * @param identity    the result for an empty segment
+     * @param accumulator folds one more element into a partial result
+     * @param combiner    joins the results of two neighbouring runs of elements
+     * @return the combined result
+     * @throws ConcurrentModificationException if the list is changed during the fold
      */
-    @Override
-    public boolean contains(T target) 
+    public <R> R parallelReduce(R identity, BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner)
     {
-        return indexOf(target) > -1;
+        return scanSegments((segment, first, startIndex, length, expectedModCount) ->
+        {
+            R result = identity;
+            DLLNode<T> currentNode = first;
+            for(int i = 0; i < length && currentNode != null; i++)
+            {
+                result = accumulator.apply(result, currentNode.getElement());
+                currentNode = scanNext(currentNode, expectedModCount);
+            }
+            return result;
+        }, identity, combiner);
     }
 
-    /*  
-     * Returns true if this list contains no elements. 
+    /**
+     * Reverses the order of this list in O(1) by flipping which link of each
+     * node counts as next. Nothing is relinked, so the cost of every other
+     * operation is unchanged. Bumps modCount, so live iterators and views fail fast.
+     */
+    public void reverse()
+    {
+        reversed = !reversed;
+        checkpoints = null;
+        modCount++;
+    }
+
+    /**
+     * Returns an Iterator over the elements of this list from last to first.
+     * It fails fast and supports remove.
      *
-     * @return true if this list contains no elements
+     * @return an Iterator over the elements in reverse order
      */
-    @Override
-    public boolean isEmpty() 
+    public Iterator<T> descendingIterator()
     {
-       return size == 0;
+        return new DescendingIterator();
     }
 
-    /* 
-     * Returns the number of elements in this list. 
+    /**
+     * Returns a read-only view of this list in reverse order. The view costs
+     * O(1) to create and reads straight through to this list, so index i of
+     * the view is index size() - 1 - i here. Mutators on the view throw
+     * UnsupportedOperationException, and the view's iterators fail fast when
+     * this list changes.
      *
-     * @return the integer representation of number of elements in this list
+     * @return a reversed, read-only view of this list
      */
-    @Override
-    public int size() 
+    public IndexedUnsortedList<T> reversedView()
     {
-        return size;
+        return new ReversedView();
     }
 
-    /*  
-     * Returns a string representation of this list. 
+    /**
+     * Adds the specified element to the front of this list and returns a
+     * handle to it. The handle is the element's own node, so it costs no
+     * extra allocation, and it stays valid while the element is in the list.
      *
-     * @return a string representation of this list
+     * @param element the element to be added to the front of this list
+     * @return a handle to the new element
      */
-    @Override
-    public String toString()
+    public Handle<T> addToFrontHandle(T element)
     {
-        StringBuilder string = new StringBuilder("[");
-        Node<T> currentNode = head;
-        for(int i = 0; i < size; i++)
-        {   if(currentNode == null)
-            {
-                break;
-            }
-            if(i < size - 1)
-            {
-                string.append(currentNode.getElement());
-                string.append(",");
-            }if (i == size -1) {
-                string.append(currentNode.getElement());                
+        HandleNode<T> newNode = new HandleNode<T>(element, handleOwner());
+        splice(front(), newNode, newNode, 1);
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Adds the specified element to the rear of this list and returns a
+     * handle to it. The handle is the element's own node, so it costs no
+     * extra allocation, and it stays valid while the element is in the list.
+     *
+     * @param element the element to be added to the rear of this list
+     * @return a handle to the new element
+     */
+    public Handle<T> addToRearHandle(T element)
+    {
+        HandleNode<T> newNode = new HandleNode<T>(element, handleOwner());
+        splice(null, newNode, newNode, 1);
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Inserts the specified element just after the element the handle refers to, in O(1).
+     *
+     * @param handle  a handle to an element of this list
+     * @param element the element to be inserted
+     * @return a handle to the new element
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    public Handle<T> insertAfter(Handle<T> handle, T element)
+    {
+        HandleNode<T> node = handleNode(handle);
+        HandleNode<T> newNode = new HandleNode<T>(element, node.owner);
+        splice(nextOf(node), newNode, newNode, 1);
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Inserts the specified element just before the element the handle refers to, in O(1).
+     *
+     * @param handle  a handle to an element of this list
+     * @param element the element to be inserted
+     * @return a handle to the new element
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    public Handle<T> insertBefore(Handle<T> handle, T element)
+    {
+        HandleNode<T> node = handleNode(handle);
+        HandleNode<T> newNode = new HandleNode<T>(element, node.owner);
+        splice(node, newNode, newNode, 1);
+        modCount++;
+        return newNode;
+    }
+
+    /**
+     * Removes and returns the element the handle refers to, in O(1). The
+     * handle is no longer valid afterwards.
+     *
+     * @param handle a handle to an element of this list
+     * @return the removed element
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has already been removed
+     */
+    public T removeHandle(Handle<T> handle)
+    {
+        T retVal = unlink(handleNode(handle));
+        modCount++;
+        return retVal;
+    }
+
+    /**
+     * Moves the element the handle refers to to the front of this list, in O(1).
+     * The handle stays valid.
+     *
+     * @param handle a handle to an element of this list
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    public void moveToFront(Handle<T> handle)
+    {
+        HandleNode<T> node = handleNode(handle);
+        if(node != front())
+        {
+            bypass(node, node);
+            size--;
+            splice(front(), node, node, 1);
+        }
+        modCount++;
+    }
+
+    /**
+     * Moves the element the handle refers to to the rear of this list, in O(1).
+     * The handle stays valid.
+     *
+     * @param handle a handle to an element of this list
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    public void moveToRear(Handle<T> handle)
+    {
+        HandleNode<T> node = handleNode(handle);
+        if(node != rear())
+        {
+            bypass(node, node);
+            size--;
+            splice(null, node, node, 1);
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns the element the handle refers to, in O(1).
+     *
+     * @param handle a handle to an element of this list
+     * @return the handle's element
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    public T getHandle(Handle<T> handle)
+    {
+        return handleNode(handle).getElement();
+    }
+
+    /**
+     * Replaces the element the handle refers to with the given element, in O(1).
+     *
+     * @param handle  a handle to an element of this list
+     * @param element the replacement element
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    public void setHandle(Handle<T> handle, T element)
+    {
+        HandleNode<T> node = handleNode(handle);
+        unindexNode(node);
+        node.setElement(element);
+        indexNode(node);
+        modCount++;
+    }
+
+    /*  
+     * Removes and returns the first element from this list. 
+     * 
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst() 
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlink(front());
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list. 
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast() 
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlink(rear());
+        modCount++;
+        return retVal;
+    }
+
+    /*  
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element) 
+    {
+        DLLNode<T> currentNode = findNode(element);
+        if(currentNode == null)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlink(currentNode);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes every element that satisfies the given predicate, in one pass
+     * from the head and with one modCount bump.
+     *
+     * @param filter returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter)
+    {
+        int removed = 0;
+        try
+        {
+            DLLNode<T> currentNode = front();
+            while(currentNode != null)
+            {
+                DLLNode<T> nextNode = nextOf(currentNode);
+                if(filter.test(currentNode.getElement()))
+                {
+                    unlink(currentNode);
+                    removed++;
+                }
+                currentNode = nextNode;
+            }
+        } finally
+        {
+            if(removed > 0)
+            {
+                modCount++;
             }
-            currentNode = currentNode.getNext();
         }
-		string.append("]");
-		
-		return string.toString();
+        return removed > 0;
+    }
+
+    /*
+     * Removes and returns the element at the specified index. 
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index) 
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        T retVal = unlink(nodeAt(index));
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive.
+     * Seeks once from whichever end is nearer to the range and unlinks it
+     * with one relink, so the cost is O(min(fromIndex, size - toIndex) + k)
+     * for k removed elements. Bumps modCount once.
+     *
+     * @param fromIndex the index of the first element to remove
+     * @param toIndex   the index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(fromIndex == toIndex)
+        {
+            return;
+        }
+        DLLNode<T> first;
+        DLLNode<T> last;
+        if(fromIndex <= size - toIndex)
+        {
+            first = nodeAt(fromIndex);
+            last = first;
+            for(int i = fromIndex + 1; i < toIndex; i++)
+            {
+                last = nextOf(last);
+            }
+        } else
+        {
+            last = nodeAt(toIndex - 1);
+            first = last;
+            for(int i = toIndex - 1; i > fromIndex; i--)
+            {
+                first = prevOf(first);
+            }
+        }
+        removeChain(first, last, toIndex - fromIndex);
+        modCount++;
+    }
+
+    /*
+     * Removes every element from this list in O(1) by dropping the head and
+     * tail. The nodes are left to the garbage collector rather than recycled.
+     * Bumps modCount once.
+     */
+    @Override
+    public void clear()
+    {
+        detach();
+    }
+
+     /* 
+     * Replace the element at the specified index with the given element. 
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element) 
+    {
+       if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        DLLNode<T> node = nodeAt(index);
+        unindexNode(node);
+        node.setElement(element);
+        indexNode(node);
+        modCount++;
+    }
+
+    /* 
+     * Returns a reference to the element at the specified index. 
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index) 
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).getElement();
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element. 
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list    
+     */
+    @Override
+    public int indexOf(T element) 
+    {
+        if(nodeIndex != null)
+        {
+            DLLNode<T> foundNode = findNode(element);
+            int foundIndex = -1;
+            for(DLLNode<T> node = foundNode; node != null; node = prevOf(node))
+            {
+                foundIndex++;
+            }
+            return foundIndex;
+        }
+        DLLNode<T> currentNode = front();
+        int currentIndex = 0;
+        int returnIndex =-1;
+        while(currentNode != null && returnIndex < 0)
+        {
+            if(currentNode.getElement().equals(element))
+            {
+                returnIndex = currentIndex;
+            } else 
+            {
+                currentIndex++;
+                currentNode = nextOf(currentNode);
+            }
+        }
+        return returnIndex;
     }
 
     /*  
-     * Returns an Iterator for the elements in this list. 
+     * Returns a reference to the first element in this list. 
      *
-     * @return an Iterator over the elements in this list
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
      */
     @Override
-    public Iterator<T> iterator() 
+    public T first() 
     {
-        return new DLLListIterator(0);
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return front().getElement();
+    }
+
+    /*
+     * Returns a reference to the last element in this list. 
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last() 
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return rear().getElement();
+    }
+
+    /*
+     * Returns true if this list contains the specified target element. 
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target) 
+    {
+        return findNode(target) != null;
+    }
+
+    /*  
+     * Returns true if this list contains no elements. 
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() 
+    {
+       return size == 0;
+    }
+
+    /* 
+     * Returns the number of elements in this list. 
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size() 
+    {
+        return size;
+    }
+
+    /*  
+     * Returns a string representation of this list. 
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        DLLNode<T> currentNode = front();
+        for(int i = 0; i < size; i++)
+        {   if(currentNode == null)
+            {
+                break;
+            }
+            if(i < size - 1)
+            {
+                string.append(currentNode.getElement());
+                string.append(",");
+            }if (i == size -1) {
+                string.append(currentNode.getElement());                
+            }
+            currentNode = nextOf(currentNode);
+        }
+		string.append("]");
+		
+		return string.toString();
+    }
+
+    /**
+     * Returns a node holding element, reusing a recycled node when one is available.
+     *
+     * @param element the element the node will hold
+     * @return an unlinked node holding element
+     */
+    private DLLNode<T> newNode(T element)
+    {
+        if(recycledNodes == null)
+        {
+            return new DLLNode<T>(element);
+        }
+        DLLNode<T> node = recycledNodes;
+        recycledNodes = node.getNext();
+        recycledCount--;
+        node.setNext(null);
+        node.setElement(element);
+        return node;
+    }
+
+    /**
+     * Returns the node that logically follows node, which is its prev link while reversed.
+     *
+     * @param node a node in this list
+     * @return the following node, or null at the rear
+     */
+    private DLLNode<T> nextOf(DLLNode<T> node)
+    {
+        return reversed ? node.getPrev() : node.getNext();
+    }
+
+    /**
+     * Returns the node that logically precedes node, which is its next link while reversed.
+     *
+     * @param node a node in this list
+     * @return the preceding node, or null at the front
+     */
+    private DLLNode<T> prevOf(DLLNode<T> node)
+    {
+        return reversed ? node.getNext() : node.getPrev();
+    }
+
+    private void setNextOf(DLLNode<T> node, DLLNode<T> next)
+    {
+        if(reversed)
+        {
+            node.setPrev(next);
+        } else
+        {
+            node.setNext(next);
+        }
+    }
+
+    private void setPrevOf(DLLNode<T> node, DLLNode<T> prev)
+    {
+        if(reversed)
+        {
+            node.setNext(prev);
+        } else
+        {
+            node.setPrev(prev);
+        }
+    }
+
+    /**
+     * Returns the logical first node, which is the tail while reversed.
+     *
+     * @return the first node, or null if the list is empty
+     */
+    private DLLNode<T> front()
+    {
+        return reversed ? tail : head;
+    }
+
+    /**
+     * Returns the logical last node, which is the head while reversed.
+     *
+     * @return the last node, or null if the list is empty
+     */
+    private DLLNode<T> rear()
+    {
+        return reversed ? head : tail;
+    }
+
+    private void setFront(DLLNode<T> node)
+    {
+        if(reversed)
+        {
+            tail = node;
+        } else
+        {
+            head = node;
+        }
+    }
+
+    private void setRear(DLLNode<T> node)
+    {
+        if(reversed)
+        {
+            head = node;
+        } else
+        {
+            tail = node;
+        }
+    }
+
+    /**
+     * Physically flips every link, if needed, so that the reversed flag ends up
+     * equal to the given one. The logical order is unchanged. O(n) when the
+     * flag changes, O(1) otherwise. Does not touch modCount.
+     *
+     * @param wantReversed the orientation the links should end up in
+     */
+    private void orient(boolean wantReversed)
+    {
+        if(reversed == wantReversed)
+        {
+            return;
+        }
+        for(DLLNode<T> currentNode = head; currentNode != null; currentNode = currentNode.getPrev())
+        {
+            DLLNode<T> nextNode = currentNode.getNext();
+            currentNode.setNext(currentNode.getPrev());
+            currentNode.setPrev(nextNode);
+        }
+        DLLNode<T> oldHead = head;
+        head = tail;
+        tail = oldHead;
+        reversed = wantReversed;
+    }
+
+    /**
+     * Returns the node at the given index, walking from whichever end is nearer.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the node at index
+     */
+    private DLLNode<T> nodeAt(int index)
+    {
+        DLLNode<T> currentNode;
+        if(index < size / 2)
+        {
+            currentNode = front();
+            for(int i = 0; i < index; i++)
+            {
+                currentNode = nextOf(currentNode);
+            }
+        } else
+        {
+            currentNode = rear();
+            for(int i = size - 1; i > index; i--)
+            {
+                currentNode = prevOf(currentNode);
+            }
+        }
+        return currentNode;
+    }
+
+    /**
+     * Links a detached chain of nodes in before nextNode, or at the rear if
+     * nextNode is null, and records each of them in the node index.
+     * Updates size but not modCount.
+     *
+     * @param nextNode the node that will follow the chain, or null
+     * @param first    the first node of the chain
+     * @param last     the last node of the chain
+     * @param count    the number of nodes in the chain
+     */
+    private void splice(DLLNode<T> nextNode, DLLNode<T> first, DLLNode<T> last, int count)
+    {
+        DLLNode<T> prevNode = nextNode == null ? rear() : prevOf(nextNode);
+        setPrevOf(first, prevNode);
+        setNextOf(last, nextNode);
+        if(prevNode == null)
+        {
+            setFront(first);
+        } else
+        {
+            setNextOf(prevNode, first);
+        }
+        if(nextNode == null)
+        {
+            setRear(last);
+        } else
+        {
+            setPrevOf(nextNode, last);
+            //every checkpoint from nextNode on has moved back; appends leave the directory to be extended
+            checkpoints = null;
+        }
+        if(nodeIndex != null)
+        {
+            for(DLLNode<T> currentNode = first; currentNode != nextNode; currentNode = nextOf(currentNode))
+            {
+                indexNode(currentNode);
+            }
+        }
+        size += count;
+    }
+
+    /**
+     * Unlinks a node, drops it from the node index and recycles it.
+     * Updates size but not modCount.
+     *
+     * @param node the node to unlink
+     * @return the element the node held
+     */
+    private T unlink(DLLNode<T> node)
+    {
+        T retVal = node.getElement();
+        unindexNode(node);
+        bypass(node, node);
+        recycleNode(node);
+        size--;
+        return retVal;
+    }
+
+    /**
+     * Links the nodes on either side of a chain to each other, cutting the
+     * chain out of the list, and drops the checkpoint directory so it never
+     * holds a node that has left the list. The chain's own links, size, the
+     * node index and modCount are left alone.
+     *
+     * @param first the first node to cut out
+     * @param last  the last node to cut out, first or a node after it
+     * @return the node that followed last, or null if last was the rear
+     */
+    private DLLNode<T> bypass(DLLNode<T> first, DLLNode<T> last)
+    {
+        DLLNode<T> prevNode = prevOf(first);
+        DLLNode<T> nextNode = nextOf(last);
+        checkpoints = null;
+        if(prevNode == null)
+        {
+            setFront(nextNode);
+        } else
+        {
+            setNextOf(prevNode, nextNode);
+        }
+        if(nextNode == null)
+        {
+            setRear(prevNode);
+        } else
+        {
+            setPrevOf(nextNode, prevNode);
+        }
+        return nextNode;
+    }
+
+    /**
+     * Unlinks a chain of nodes with one relink, then drops each of them from
+     * the node index and recycles it. Updates size but not modCount.
+     *
+     * @param first the first node to unlink
+     * @param last  the last node to unlink, first or a node after it
+     * @param count the number of nodes from first to last
+     */
+    private void removeChain(DLLNode<T> first, DLLNode<T> last, int count)
+    {
+        DLLNode<T> nextNode = bypass(first, last);
+        DLLNode<T> currentNode = first;
+        while(currentNode != nextNode)
+        {
+            DLLNode<T> following = nextOf(currentNode);
+            unindexNode(currentNode);
+            recycleNode(currentNode);
+            currentNode = following;
+        }
+        size -= count;
+    }
+
+    /**
+     * Rebuilds the prev links, head and tail from a null-terminated chain of
+     * next links. Only used while the list is not reversed.
+     *
+     * @param first the first node of the chain, or null for an empty list
+     */
+    private void relinkFrom(DLLNode<T> first)
+    {
+        checkpoints = null;
+        head = first;
+        DLLNode<T> prevNode = null;
+        for(DLLNode<T> currentNode = first; currentNode != null; currentNode = currentNode.getNext())
+        {
+            currentNode.setPrev(prevNode);
+            prevNode = currentNode;
+        }
+        tail = prevNode;
+    }
+
+    /**
+     * Returns the checkpoint directory. The list is cut into segments of
+     * checkpointSpacing nodes, enough for about four per worker in the common
+     * pool, and the directory holds the first node of each. Any change that
+     * moves or unlinks nodes drops the directory, and it is rebuilt here with
+     * one walk of the list. Elements replaced in place keep it, and elements
+     * appended since it was built only cost a walk from its last checkpoint,
+     * unless they have doubled the number of segments.
+     *
+     * @return the first node of each segment, in list order
+     */
+    @SuppressWarnings("unchecked")
+    private DLLNode<T>[] checkpoints()
+    {
+        int segmentTarget = ForkJoinPool.commonPool().getParallelism() * 4;
+        if(checkpoints != null && checkpointSize != size)
+        {
+            //only appends change the size without dropping the directory
+            int length = (size + checkpointSpacing - 1) / checkpointSpacing;
+            if(length > segmentTarget * 2)
+            {
+                checkpoints = null;
+            } else
+            {
+                int built = checkpoints.length;
+                checkpoints = Arrays.copyOf(checkpoints, length);
+                DLLNode<T> currentNode = checkpoints[built - 1];
+                for(int i = built; i < length; i++)
+                {
+                    for(int j = 0; j < checkpointSpacing; j++)
+                    {
+                        currentNode = nextOf(currentNode);
+                    }
+                    checkpoints[i] = currentNode;
+                }
+                checkpointSize = size;
+            }
+        }
+        if(checkpoints == null)
+        {
+            checkpointSpacing = Math.max(PARALLEL_SCAN_THRESHOLD, (size + segmentTarget - 1) / segmentTarget);
+            checkpoints = (DLLNode<T>[]) new DLLNode<?>[(size + checkpointSpacing - 1) / checkpointSpacing];
+            DLLNode<T> currentNode = front();
+            for(int i = 0; i < checkpoints.length; i++)
+            {
+                checkpoints[i] = currentNode;
+                for(int j = 0; j < checkpointSpacing && currentNode != null; j++)
+                {
+                    currentNode = nextOf(currentNode);
+                }
+            }
+            checkpointSize = size;
+        }
+        return checkpoints;
+    }
+
+    /**
+     * Runs scan over every segment of the checkpoint directory, in parallel
+     * when there is more than one, then combines the segment results in list
+     * order, starting from identity.
+     *
+     * @param <R>      the type of the result
+     * @param scan     computes the result for one segment
+     * @param identity the result for an empty list
+     * @param combiner joins the results of two neighbouring runs of segments
+     * @return the combined result
+     * @throws ConcurrentModificationException if the list changes during the scan
+     */
+    private <R> R scanSegments(SegmentScan<T, R> scan, R identity, BinaryOperator<R> combiner)
+    {
+        if(size == 0)
+        {
+            return identity;
+        }
+        DLLNode<T>[] starts = checkpoints();
+        int expectedModCount = modCount;
+        R result = identity;
+        if(starts.length == 1)
+        {
+            result = combiner.apply(result, scan.scan(0, starts[0], 0, size, expectedModCount));
+        } else
+        {
+            ArrayList<ScanTask<T, R>> tasks = new ArrayList<ScanTask<T, R>>(starts.length);
+            for(int i = 0; i < starts.length; i++)
+            {
+                int startIndex = i * checkpointSpacing;
+                tasks.add(new ScanTask<T, R>(scan, i, starts[i], startIndex, Math.min(checkpointSpacing, size - startIndex), expectedModCount));
+            }
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            for(ScanTask<T, R> task : tasks)
+            {
+                result = combiner.apply(result, task.join());
+            }
+        }
+        if(expectedModCount != modCount)
+        {
+            throw new ConcurrentModificationException();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the node after node for a segment walk. With recycling on, the
+     * walk ends as soon as the list has changed, since an unlinked node may
+     * already be on the free list.
+     *
+     * @param node             the node the walk is on
+     * @param expectedModCount modCount when the scan started
+     * @return the following node, or null if the walk must stop
+     */
+    private DLLNode<T> scanNext(DLLNode<T> node, int expectedModCount)
+    {
+        if(maxRecycledNodes > 0 && expectedModCount != modCount)
+        {
+            return null;
+        }
+        return nextOf(node);
+    }
+
+    /**
+     * Returns the given comparator, or one for the natural order of the elements if it is null.
+     *
+     * @param comparator the comparator to use, or null
+     * @return a comparator that is never null
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Comparator<? super E> order(Comparator<? super E> comparator)
+    {
+        if(comparator != null)
+        {
+            return comparator;
+        }
+        return (a, b) -> ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    /**
+     * Sorts the null-terminated chain after sentinel by merging neighbouring
+     * ascending runs until one run is left. The next links of sentinel and
+     * every node always form one chain holding all of the nodes, even if the
+     * comparator throws. Prev links are not touched.
+     *
+     * @param sentinel   a node whose next link is the first node of the chain
+     * @param comparator the order to sort by
+     */
+    private static <E> void sortChain(DLLNode<E> sentinel, Comparator<? super E> comparator)
+    {
+        boolean sorted = false;
+        while(!sorted)
+        {
+            sorted = true;
+            DLLNode<E> out = sentinel;
+            while(out.getNext() != null)
+            {
+                DLLNode<E> a = out.getNext();
+                DLLNode<E> aEnd = runEnd(a, comparator);
+                DLLNode<E> b = aEnd.getNext();
+                if(b == null)
+                {
+                    break;
+                }
+                sorted = false;
+                DLLNode<E> bEnd = runEnd(b, comparator);
+                out = mergeRuns(out, a, aEnd, b, bEnd, comparator);
+            }
+        }
+    }
+
+    /**
+     * Returns the last node of the ascending run that starts at first.
+     *
+     * @param first      the first node of the run
+     * @param comparator the order to sort by
+     * @return the last node before the order next drops, or the last node of the chain
+     */
+    private static <E> DLLNode<E> runEnd(DLLNode<E> first, Comparator<? super E> comparator)
+    {
+        DLLNode<E> currentNode = first;
+        while(currentNode.getNext() != null
+                && comparator.compare(currentNode.getElement(), currentNode.getNext().getElement()) <= 0)
+        {
+            currentNode = currentNode.getNext();
+        }
+        return currentNode;
+    }
+
+    /**
+     * Merges the run a..aEnd with the run b..bEnd that follows it, linking the
+     * result after out and keeping ties in their original order. The node that
+     * followed bEnd follows the merged run. If the comparator throws, the
+     * unmerged nodes are linked back after the merged ones so none is lost.
+     *
+     * @param out        the node the merged run is linked after
+     * @param a          the first node of the first run
+     * @param aEnd       the last node of the first run, whose next link is b
+     * @param b          the first node of the second run
+     * @param bEnd       the last node of the second run
+     * @param comparator the order to sort by
+     * @return the last node of the merged run
+     */
+    private static <E> DLLNode<E> mergeRuns(DLLNode<E> out, DLLNode<E> a, DLLNode<E> aEnd, DLLNode<E> b, DLLNode<E> bEnd,
+            Comparator<? super E> comparator)
+    {
+        DLLNode<E> rest = bEnd.getNext();
+        try
+        {
+            while(true)
+            {
+                if(comparator.compare(b.getElement(), a.getElement()) < 0)
+                {
+                    out.setNext(b);
+                    out = b;
+                    if(b == bEnd)
+                    {
+                        out.setNext(a);
+                        aEnd.setNext(rest);
+                        return aEnd;
+                    }
+                    b = b.getNext();
+                } else
+                {
+                    out.setNext(a);
+                    out = a;
+                    if(a == aEnd)
+                    {
+                        out.setNext(b);
+                        return bEnd;
+                    }
+                    a = a.getNext();
+                }
+            }
+        } catch(RuntimeException | Error e)
+        {
+            out.setNext(a);
+            aEnd.setNext(b);
+            bEnd.setNext(rest);
+            throw e;
+        }
+    }
+
+    /**
+     * One step of parallelSort. With a step of 0 it sorts segments[index] on
+     * its own. Otherwise it merges segments[index + step] into segments[index].
+     * Either way the nodes it was given are left in segments[index] if the
+     * comparator throws.
+     */
+    private static class SegmentTask<E> extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final DLLNode<E>[] segments;
+        private final int index;
+        private final int step;
+        private final Comparator<? super E> comparator;
+
+        public SegmentTask(DLLNode<E>[] segments, int index, int step, Comparator<? super E> comparator)
+        {
+            this.segments = segments;
+            this.index = index;
+            this.step = step;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute()
+        {
+            DLLNode<E> sentinel = new DLLNode<E>();
+            sentinel.setNext(segments[index]);
+            try
+            {
+                if(step == 0)
+                {
+                    sortChain(sentinel, comparator);
+                } else
+                {
+                    DLLNode<E> aEnd = sentinel.getNext();
+                    while(aEnd.getNext() != null)
+                    {
+                        aEnd = aEnd.getNext();
+                    }
+                    DLLNode<E> b = segments[index + step];
+                    DLLNode<E> bEnd = b;
+                    while(bEnd.getNext() != null)
+                    {
+                        bEnd = bEnd.getNext();
+                    }
+                    aEnd.setNext(b);
+                    segments[index + step] = null;
+                    mergeRuns(sentinel, sentinel.getNext(), aEnd, b, bEnd, comparator);
+                }
+            } finally
+            {
+                segments[index] = sentinel.getNext();
+            }
+        }
+    }
+
+    /**
+     * A stable reference to one element of an IUDoubleLinkedList, returned by
+     * the handle-returning inserts. It stays valid while the element is in
+     * the list that handed it out, however the element moves, and is passed
+     * back to that list's handle methods for O(1) access to the element.
+     *
+     * @param <E> - class of the element the handle refers to
+     */
+    public interface Handle<E>
+    {
+    }
+
+    /**
+     * A node that is also a handle. Its owner is the token of the list it is
+     * in, and is cleared when the node is removed.
+     */
+    private static final class HandleNode<E> extends DLLNode<E> implements Handle<E>
+    {
+        private HandleOwner owner;
+
+        public HandleNode(E element, HandleOwner owner)
+        {
+            super(element);
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Token shared by the handles of one list. clear() cuts it loose from the
+     * list, which invalidates every handle pointing to it at once.
+     */
+    private static final class HandleOwner
+    {
+        private IUDoubleLinkedList<?> list;
+
+        public HandleOwner(IUDoubleLinkedList<?> list)
+        {
+            this.list = list;
+        }
+    }
+
+    /**
+     * Computes the result for one segment of a parallel scan.
+     */
+    private interface SegmentScan<E, R>
+    {
+        /**
+         * Returns the result for the segment of length nodes that starts with first.
+         * The walk must stop early at a null node.
+         *
+         * @param segment          the position of the segment in the checkpoint directory
+         * @param first            the first node of the segment
+         * @param startIndex       the list index of first
+         * @param length           the number of nodes in the segment
+         * @param expectedModCount modCount when the scan started
+         * @return the segment's result
+         */
+        public R scan(int segment, DLLNode<E> first, int startIndex, int length, int expectedModCount);
+    }
+
+    /**
+     * One segment of a parallel scan.
+     */
+    private static class ScanTask<E, R> extends RecursiveTask<R>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final SegmentScan<E, R> scan;
+        private final int segment;
+        private final DLLNode<E> first;
+        private final int startIndex;
+        private final int length;
+        private final int expectedModCount;
+
+        public ScanTask(SegmentScan<E, R> scan, int segment, DLLNode<E> first, int startIndex, int length, int expectedModCount)
+        {
+            this.scan = scan;
+            this.segment = segment;
+            this.first = first;
+            this.startIndex = startIndex;
+            this.length = length;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        protected R compute()
+        {
+            return scan.scan(segment, first, startIndex, length, expectedModCount);
+        }
+    }
+
+    /**
+     * Empties this list without touching its nodes, so another list can take them over.
+     * Bumps modCount so that live iterators fail fast.
+     */
+    private void detach()
+    {
+        head = tail = null;
+        size = 0;
+        checkpoints = null;
+        if(handleOwner != null)
+        {
+            handleOwner.list = null;
+            handleOwner = null;
+        }
+        if(nodeIndex != null)
+        {
+            nodeIndex.clear();
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns the token for this list's handles, creating it for the first handle.
+     *
+     * @return the token live handles of this list point to
+     */
+    private HandleOwner handleOwner()
+    {
+        if(handleOwner == null)
+        {
+            handleOwner = new HandleOwner(this);
+        }
+        return handleOwner;
+    }
+
+    /**
+     * Checks that a handle refers to an element still in this list and returns its node.
+     *
+     * @param handle the handle to check
+     * @return the handle's node
+     * @throws IllegalArgumentException if the handle belongs to another list
+     * @throws IllegalStateException if the handle's element has been removed
+     */
+    @SuppressWarnings("unchecked")
+    private HandleNode<T> handleNode(Handle<T> handle)
+    {
+        if(!(handle instanceof HandleNode))
+        {
+            throw new IllegalArgumentException();
+        }
+        HandleNode<T> node = (HandleNode<T>) handle;
+        if(node.owner == null || node.owner.list == null)
+        {
+            throw new IllegalStateException();
+        }
+        if(node.owner.list != this)
+        {
+            throw new IllegalArgumentException();
+        }
+        return node;
+    }
+
+    /**
+     * Points every handle in a chain that has just been spliced into this
+     * list at this list's token.
+     *
+     * @param first the first node of the chain
+     * @param last  the last node of the chain
+     */
+    private void adoptHandles(DLLNode<T> first, DLLNode<T> last)
+    {
+        DLLNode<T> end = nextOf(last);
+        for(DLLNode<T> currentNode = first; currentNode != end; currentNode = nextOf(currentNode))
+        {
+            if(currentNode instanceof HandleNode)
+            {
+                ((HandleNode<T>) currentNode).owner = handleOwner();
+            }
+        }
+    }
+
+    /**
+     * Clears a node that has just been unlinked and keeps it for reuse if
+     * recycling is enabled and the free list has room. A handle's node is
+     * marked removed instead.
+     *
+     * @param node the unlinked node
+     */
+    private void recycleNode(DLLNode<T> node)
+    {
+        node.setElement(null);
+        node.setPrev(null);
+        node.setNext(null);
+        if(node instanceof HandleNode)
+        {
+            //a handle's node is never reused, so a stale handle can only ever see it as removed
+            ((HandleNode<T>) node).owner = null;
+            return;
+        }
+        if(recycledCount < maxRecycledNodes)
+        {
+            node.setNext(recycledNodes);
+            recycledNodes = node;
+            recycledCount++;
+        }
+    }
+
+    /**
+     * Returns the first node in the list holding an element equal to target.
+     * Uses the node index when there is one; when several nodes hold equal
+     * elements it walks from the head to the first of them.
+     *
+     * @param target the element being sought
+     * @return the first matching node, or null if target is not in the list
+     */
+    private DLLNode<T> findNode(T target)
+    {
+        if(nodeIndex != null)
+        {
+            HashSet<DLLNode<T>> nodes = nodeIndex.get(target);
+            if(nodes == null)
+            {
+                return null;
+            }
+            if(nodes.size() == 1)
+            {
+                return nodes.iterator().next();
+            }
+            DLLNode<T> currentNode = front();
+            while(!nodes.contains(currentNode))
+            {
+                currentNode = nextOf(currentNode);
+            }
+            return currentNode;
+        }
+        DLLNode<T> currentNode = front();
+        while(currentNode != null && !currentNode.getElement().equals(target))
+        {
+            currentNode = nextOf(currentNode);
+        }
+        return currentNode;
+    }
+
+    /**
+     * Records a node that has just been linked, or given a new element, in the node index.
+     *
+     * @param node the node to record
+     */
+    private void indexNode(DLLNode<T> node)
+    {
+        if(nodeIndex != null)
+        {
+            nodeIndex.computeIfAbsent(node.getElement(), k -> new HashSet<DLLNode<T>>()).add(node);
+        }
+    }
+
+    /**
+     * Drops a node that is about to be unlinked, or given a new element, from the node index.
+     *
+     * @param node the node to drop
+     */
+    private void unindexNode(DLLNode<T> node)
+    {
+        if(nodeIndex != null)
+        {
+            HashSet<DLLNode<T>> nodes = nodeIndex.get(node.getElement());
+            nodes.remove(node);
+            if(nodes.isEmpty())
+            {
+                nodeIndex.remove(node.getElement());
+            }
+        }
+    }
+
+    /*  
+     * Returns an Iterator for the elements in this list. 
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() 
+    {
+        return new DLLListIterator(0);
+    }
+
+    /* 
+     * Returns a ListIterator for the elements in this list. 
+     *
+     * @return a ListIterator over the elements in this list
+     *
+     * @throws UnsupportedOperationException if not implemented
+     */
+    @Override
+    public ListIterator<T> listIterator() 
+    {
+        return new DLLListIterator(0);
+    }
+
+    /* 
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index. 
+     *
+     * @return a ListIterator over the elements in this list
+     *
+     * @throws UnsupportedOperationException if not implemented
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        if(startingIndex < 0 || startingIndex > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new DLLListIterator(startingIndex);
+    }
+
+    /*
+     * Returns a Spliterator over the elements in this list. It reports SIZED,
+     * SUBSIZED and ORDERED, splits by handing off the first half of its node
+     * range, and binds to the list on first use. Traversal checks for
+     * concurrent modification once, at the end, rather than per element.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return new DLLSpliterator(null, -1, 0);
+    }
+
+    /*
+     * Returns a BatchCursor over the elements in this list. Each batch is
+     * copied straight from the nodes and checks for concurrent modification
+     * once, rather than once per element.
+     *
+     * @return a BatchCursor over the elements in this list
+     */
+    @Override
+    public BatchCursor<T> batchCursor()
+    {
+        return new DLLBatchCursor();
+    }
+
+    /*
+     * Passes each element of this list to action, in order, walking the
+     * nodes directly. The list is checked for concurrent modification once,
+     * after the walk, and the walk never visits more than the starting size.
+     * With recycling on, the walk also stops as soon as the list changes.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action)
+    {
+        if(action == null)
+        {
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        DLLNode<T> currentNode = front();
+        for(int remaining = size; remaining > 0 && currentNode != null; remaining--)
+        {
+            action.accept(currentNode.getElement());
+            if(maxRecycledNodes > 0 && expectedModCount != modCount)
+            {
+                //the node may already be on the free list, so its links lead nowhere useful
+                break;
+            }
+            currentNode = nextOf(currentNode);
+        }
+        if(expectedModCount != modCount)
+        {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /*
+     * Returns a view of the elements from fromIndex, inclusive, to toIndex,
+     * exclusive. The view shares this list's nodes and writes through to it,
+     * and its clear() and removeRange() drop a window with a single relink.
+     * Changes to this list made other than through the view make it fail fast.
+     *
+     * @param fromIndex the index of the first element in the view
+     * @param toIndex   the index after the last element in the view
+     * @return a view of the given range of this list
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    @Override
+    public IndexedUnsortedList<T> subList(int fromIndex, int toIndex)
+    {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        DLLNode<T> before = fromIndex == 0 ? null : nodeAt(fromIndex - 1);
+        DLLNode<T> after = toIndex == size ? null : nodeAt(toIndex);
+        return new SubList(null, before, after, toIndex - fromIndex);
+    }
+
+    private class DLLListIterator implements ListIterator<T>
+    {
+        //variables
+        private DLLNode<T> nextNode;
+        private int nextIndex;
+        private int iterModCount;
+        private boolean canChange;
+        private DLLNode<T> lastReturned;
+
+        //constructor
+        public DLLListIterator(int index)
+        {
+            nextNode = index == size ? null : nodeAt(index);
+            nextIndex = index;
+            this.iterModCount = modCount;
+            canChange = false;
+            lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextNode;
+            nextNode = nextOf(nextNode);
+            nextIndex++;
+            canChange = true;
+            return lastReturned.getElement();
+        }
+
+        /*
+         * Passes every remaining element to action, walking the nodes
+         * directly. The list is checked for concurrent modification once,
+         * after the walk, and the iterator is left as if next() had been
+         * called for each element.
+         *
+         * @param action the action to run on each element
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            if(action == null)
+            {
+                throw new NullPointerException();
+            }
+            DLLNode<T> currentNode = nextNode;
+            DLLNode<T> visited = null;
+            int limit = size - nextIndex;
+            int count = 0;
+            while(count < limit && currentNode != null)
+            {
+                action.accept(currentNode.getElement());
+                if(maxRecycledNodes > 0 && iterModCount != modCount)
+                {
+                    //the node may already be on the free list, so its links lead nowhere useful
+                    break;
+                }
+                visited = currentNode;
+                currentNode = nextOf(currentNode);
+                count++;
+            }
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(visited != null)
+            {
+                nextIndex += count;
+                lastReturned = visited;
+                nextNode = currentNode;
+                canChange = true;
+            }
+        }
+
+        @Override
+        public boolean hasPrevious() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null ? prevOf(nextNode) != null : rear() != null;
+        }
+
+        @Override
+        public T previous() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            if (nextNode == null)
+            {
+                nextNode = rear();
+            } else
+            {
+                nextNode = prevOf(nextNode);
+            }
+            lastReturned = nextNode;
+            nextIndex--;
+            canChange = true;
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public int nextIndex() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            DLLNode<T> removed = lastReturned;
+            if(removed == nextNode)
+            {
+                nextNode = nextOf(nextNode);
+            } else
+            {
+                nextIndex--;
+            }
+            unlink(removed);
+            modCount++;
+            iterModCount++;
+            lastReturned = null;
+            canChange = false;
+
+        }
+
+        @Override
+        public void set(T e) 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            unindexNode(lastReturned);
+            lastReturned.setElement(e);
+            indexNode(lastReturned);
+            modCount++;
+            iterModCount++;
+            canChange = false;
+        }
+
+        @Override
+        public void add(T e) 
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            DLLNode<T> newNode = newNode(e);
+            splice(nextNode, newNode, newNode, 1);
+            nextIndex++;
+            modCount++;
+            iterModCount++;
+            lastReturned = null;
+            canChange = false;
+        }
+        
+    }
+
+    /**
+     * Walks the list from last to first by driving a list iterator backwards
+     * from the rear.
+     */
+    private class DescendingIterator implements Iterator<T>
+    {
+        //variables
+        private final DLLListIterator itr;
+
+        //constructor
+        public DescendingIterator()
+        {
+            itr = new DLLListIterator(size);
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return itr.hasPrevious();
+        }
+
+        @Override
+        public T next()
+        {
+            return itr.previous();
+        }
+
+        @Override
+        public void remove()
+        {
+            itr.remove();
+        }
+    }
+
+    private class DLLBatchCursor implements BatchCursor<T>
+    {
+        //variables
+        private DLLNode<T> nextNode;
+        private int remaining;
+        private final int expectedModCount;
+
+        //constructor
+        public DLLBatchCursor()
+        {
+            nextNode = front();
+            remaining = size;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public int nextBatch(T[] buffer)
+        {
+            if(expectedModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            int count = Math.min(buffer.length, remaining);
+            DLLNode<T> currentNode = nextNode;
+            for(int i = 0; i < count; i++)
+            {
+                buffer[i] = currentNode.getElement();
+                currentNode = nextOf(currentNode);
+            }
+            nextNode = currentNode;
+            remaining -= count;
+            return count;
+        }
+    }
+
+    /**
+     * Spliterator over a run of count nodes starting at current. A count of
+     * -1 means the spliterator has not bound to the list yet, and takes the
+     * whole list and its modCount on first use.
+     */
+    private class DLLSpliterator implements Spliterator<T>
+    {
+        //variables
+        private DLLNode<T> current;
+        private int count;
+        private int expectedModCount;
+
+        //constructor
+        public DLLSpliterator(DLLNode<T> current, int count, int expectedModCount)
+        {
+            this.current = current;
+            this.count = count;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int bind()
+        {
+            if(count < 0)
+            {
+                current = front();
+                count = size;
+                expectedModCount = modCount;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            if(action == null)
+            {
+                throw new NullPointerException();
+            }
+            if(bind() == 0)
+            {
+                return false;
+            }
+            if(expectedModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            T element = current.getElement();
+            current = nextOf(current);
+            count--;
+            action.accept(element);
+            if(expectedModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            if(action == null)
+            {
+                throw new NullPointerException();
+            }
+            int remaining = bind();
+            DLLNode<T> currentNode = current;
+            while(remaining-- > 0 && currentNode != null)
+            {
+                action.accept(currentNode.getElement());
+                if(maxRecycledNodes > 0 && expectedModCount != modCount)
+                {
+                    //the node may already be on the free list, so its links lead nowhere useful
+                    break;
+                }
+                currentNode = nextOf(currentNode);
+            }
+            current = null;
+            count = 0;
+            if(expectedModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int remaining = bind();
+            if(remaining < SPLIT_THRESHOLD)
+            {
+                return null;
+            }
+            int half = remaining >>> 1;
+            DLLNode<T> prefixStart = current;
+            for(int i = 0; i < half; i++)
+            {
+                current = nextOf(current);
+            }
+            count = remaining - half;
+            return new DLLSpliterator(prefixStart, half, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return bind();
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+    }
+
+    /**
+     * A read-only view of the list in reverse order. It holds no state of
+     * its own, so index i of the view is simply index size - 1 - i of the list.
+     */
+    private class ReversedView implements IndexedUnsortedList<T>
+    {
+        @Override
+        public void addToFront(T element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addToRear(T element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAfter(T element, T target)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(int index, T element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T removeFirst()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T removeLast()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T remove(T element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T remove(int index)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(int index, T element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T get(int index)
+        {
+            if(index < 0 || index >= size)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return nodeAt(size - 1 - index).getElement();
+        }
+
+        @Override
+        public int indexOf(T element)
+        {
+            int index = 0;
+            for(DLLNode<T> currentNode = rear(); currentNode != null; currentNode = prevOf(currentNode))
+            {
+                if(currentNode.getElement().equals(element))
+                {
+                    return index;
+                }
+                index++;
+            }
+            return -1;
+        }
+
+        @Override
+        public T first()
+        {
+            return IUDoubleLinkedList.this.last();
+        }
+
+        @Override
+        public T last()
+        {
+            return IUDoubleLinkedList.this.first();
+        }
+
+        @Override
+        public boolean contains(T target)
+        {
+            return IUDoubleLinkedList.this.contains(target);
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder string = new StringBuilder("[");
+            for(DLLNode<T> currentNode = rear(); currentNode != null; currentNode = prevOf(currentNode))
+            {
+                if(string.length() > 1)
+                {
+                    string.append(",");
+                }
+                string.append(currentNode.getElement());
+            }
+            string.append("]");
+            return string.toString();
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return listIterator();
+        }
+
+        @Override
+        public ListIterator<T> listIterator()
+        {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int startingIndex)
+        {
+            if(startingIndex < 0 || startingIndex > size)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return new ReversedViewIterator(startingIndex);
+        }
+
+        /**
+         * Runs a list iterator over the underlying list the other way round,
+         * so the view's cursor k sits where the list's cursor size - k does.
+         */
+        private class ReversedViewIterator implements ListIterator<T>
+        {
+            //variables
+            private final DLLListIterator itr;
+
+            //constructor
+            public ReversedViewIterator(int index)
+            {
+                itr = new DLLListIterator(size - index);
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return itr.hasPrevious();
+            }
+
+            @Override
+            public T next()
+            {
+                return itr.previous();
+            }
+
+            @Override
+            public boolean hasPrevious()
+            {
+                return itr.hasNext();
+            }
+
+            @Override
+            public T previous()
+            {
+                return itr.next();
+            }
+
+            @Override
+            public int nextIndex()
+            {
+                return size - itr.nextIndex();
+            }
+
+            @Override
+            public int previousIndex()
+            {
+                return nextIndex() - 1;
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void set(T e)
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void add(T e)
+            {
+                throw new UnsupportedOperationException();
+            }
+        }
     }
 
-    /* 
-     * Returns a ListIterator for the elements in this list. 
-     *
-     * @return a ListIterator over the elements in this list
-     *
-     * @throws UnsupportedOperationException if not implemented
+    /**
+     * A view of a contiguous range of the list, anchored on the nodes just
+     * outside the range so that changes made through the view never move
+     * its own boundaries. Reads and changes go straight to the list's
+     * nodes. Any change to the list that does not come through this view
+     * or one of its own sub views makes the view fail fast.
      */
-    @Override
-    public ListIterator<T> listIterator() 
+    private class SubList implements IndexedUnsortedList<T>
     {
-        return new DLLListIterator(0);
-    }
+        //variables
+        private final SubList parentView;
+        private final DLLNode<T> before;
+        private final DLLNode<T> after;
+        private int count;
+        private int expectedModCount;
 
-    /* 
-     * Returns a ListIterator for the elements in this list, with
-     * the iterator positioned before the specified index. 
-     *
-     * @return a ListIterator over the elements in this list
-     *
-     * @throws UnsupportedOperationException if not implemented
-     */
-    @Override
-    public ListIterator<T> listIterator(int startingIndex) {
-        if(startingIndex < 0 || startingIndex > size)
+        //constructor
+        private SubList(SubList parentView, DLLNode<T> before, DLLNode<T> after, int count)
         {
-            throw new IndexOutOfBoundsException();
+            this.parentView = parentView;
+            this.before = before;
+            this.after = after;
+            this.count = count;
+            expectedModCount = modCount;
         }
-        return new DLLListIterator(startingIndex);
-    }
 
-    private class DLLListIterator implements ListIterator<T>
-    {
-        //variables
-        private Node<T> nextNode;
-        private int nextIndex;
-        private int iterModCount;
-        private boolean canChange;
-        private Node<T> lastReturned;
+        @Override
+        public void addToFront(T element)
+        {
+            add(0, element);
+        }
 
-        //constructor
-        public DLLListIterator(int index)
+        @Override
+        public void addToRear(T element)
         {
-            nextNode = head;
-            int count = 0;
-            while(count != index)
+            add(count, element);
+        }
+
+        @Override
+        public void add(T element)
+        {
+            add(count, element);
+        }
+
+        @Override
+        public void addAfter(T element, T target)
+        {
+            checkForComodification();
+            DLLNode<T> targetNode = viewFindNode(target);
+            if(targetNode == null)
             {
-                nextNode = nextNode.getNext();
-                count++;
+                throw new NoSuchElementException();
             }
-            nextIndex = index;
-            this.iterModCount = modCount;
-            canChange = false;
-            lastReturned = null;
+            DLLNode<T> newNode = newNode(element);
+            splice(nextOf(targetNode), newNode, newNode, 1);
+            modCount++;
+            changed(1);
         }
 
         @Override
-        public boolean hasNext() 
+        public void add(int index, T element)
         {
-            if(iterModCount != modCount)
+            checkForComodification();
+            if(index < 0 || index > count)
             {
-                throw new ConcurrentModificationException();
+                throw new IndexOutOfBoundsException();
             }
-            return nextNode != null;
+            DLLNode<T> newNode = newNode(element);
+            splice(index == count ? after : viewNodeAt(index), newNode, newNode, 1);
+            modCount++;
+            changed(1);
         }
 
         @Override
-        public T next() 
+        public T removeFirst()
         {
-            if(iterModCount != modCount)
+            checkForComodification();
+            if(count == 0)
             {
-                throw new ConcurrentModificationException();
+                throw new NoSuchElementException();
             }
-            if(!hasNext())
+            return remove(0);
+        }
+
+        @Override
+        public T removeLast()
+        {
+            checkForComodification();
+            if(count == 0)
             {
                 throw new NoSuchElementException();
             }
-            lastReturned = nextNode;
-            nextNode = nextNode.getNext();
-            nextIndex++;
-            canChange = true;
-            return lastReturned.getElement();
+            return remove(count - 1);
         }
 
         @Override
-        public boolean hasPrevious() 
+        public T remove(T element)
         {
-            if(iterModCount != modCount)
+            checkForComodification();
+            DLLNode<T> targetNode = viewFindNode(element);
+            if(targetNode == null)
             {
-                throw new ConcurrentModificationException();
+                throw new NoSuchElementException();
             }
-            return nextNode != null ? nextNode.getPrev() != null : tail != null;
+            T retVal = unlink(targetNode);
+            modCount++;
+            changed(-1);
+            return retVal;
         }
 
         @Override
-        public T previous() 
+        public T remove(int index)
         {
-            if(iterModCount != modCount)
+            checkForComodification();
+            if(index < 0 || index >= count)
             {
-                throw new ConcurrentModificationException();
+                throw new IndexOutOfBoundsException();
             }
-            if(!hasPrevious())
+            T retVal = unlink(viewNodeAt(index));
+            modCount++;
+            changed(-1);
+            return retVal;
+        }
+
+        @Override
+        public void set(int index, T element)
+        {
+            checkForComodification();
+            if(index < 0 || index >= count)
             {
-                throw new NoSuchElementException();
+                throw new IndexOutOfBoundsException();
             }
-            if (nextNode == null)
+            DLLNode<T> targetNode = viewNodeAt(index);
+            unindexNode(targetNode);
+            targetNode.setElement(element);
+            indexNode(targetNode);
+            modCount++;
+            changed(0);
+        }
+
+        @Override
+        public T get(int index)
+        {
+            checkForComodification();
+            if(index < 0 || index >= count)
             {
-                nextNode = tail;
-            } else
+                throw new IndexOutOfBoundsException();
+            }
+            return viewNodeAt(index).getElement();
+        }
+
+        @Override
+        public int indexOf(T element)
+        {
+            checkForComodification();
+            DLLNode<T> currentNode = firstNode();
+            for(int i = 0; i < count; i++)
             {
-                nextNode = nextNode.getPrev();
+                if(currentNode.getElement().equals(element))
+                {
+                    return i;
+                }
+                currentNode = nextOf(currentNode);
             }
-            lastReturned = nextNode;
-            nextIndex--;
-            canChange = true;
-            return lastReturned.getElement();
+            return -1;
         }
 
         @Override
-        public int nextIndex() 
+        public T first()
         {
-            if(iterModCount != modCount)
+            checkForComodification();
+            if(count == 0)
             {
-                throw new ConcurrentModificationException();
+                throw new NoSuchElementException();
             }
-            return nextIndex;
+            return firstNode().getElement();
         }
 
         @Override
-        public int previousIndex() 
+        public T last()
         {
-            if(iterModCount != modCount)
+            checkForComodification();
+            if(count == 0)
             {
-                throw new ConcurrentModificationException();
+                throw new NoSuchElementException();
             }
-            return nextIndex - 1;
+            return lastNode().getElement();
         }
 
         @Override
-        public void remove() 
+        public boolean contains(T target)
         {
-            if(iterModCount != modCount)
+            return indexOf(target) > -1;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return size() == 0;
+        }
+
+        @Override
+        public int size()
+        {
+            checkForComodification();
+            return count;
+        }
+
+        @Override
+        public String toString()
+        {
+            checkForComodification();
+            StringBuilder string = new StringBuilder("[");
+            DLLNode<T> currentNode = firstNode();
+            for(int i = 0; i < count; i++)
             {
-                throw new ConcurrentModificationException();
+                string.append(currentNode.getElement());
+                string.append(",");
+                currentNode = nextOf(currentNode);
             }
-            if(!canChange || lastReturned == null)
+            if(count > 0)
             {
-                throw new IllegalStateException();
+                string.setLength(string.length() - 1);
             }
-            Node<T> removed = lastReturned;
-            if(removed == nextNode)
+            string.append("]");
+            return string.toString();
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator()
+        {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int startingIndex)
+        {
+            checkForComodification();
+            if(startingIndex < 0 || startingIndex > count)
             {
-                nextNode = nextNode.getNext();
-            } else
+                throw new IndexOutOfBoundsException();
+            }
+            return new SubListIterator(startingIndex);
+        }
+
+        @Override
+        public IndexedUnsortedList<T> subList(int fromIndex, int toIndex)
+        {
+            checkForComodification();
+            if(fromIndex < 0 || toIndex > count || fromIndex > toIndex)
             {
-                nextIndex--;
+                throw new IndexOutOfBoundsException();
             }
-            if(removed.getPrev() == null)
+            DLLNode<T> subBefore = fromIndex == 0 ? before : viewNodeAt(fromIndex - 1);
+            DLLNode<T> subAfter = toIndex == count ? after : viewNodeAt(toIndex);
+            return new SubList(this, subBefore, subAfter, toIndex - fromIndex);
+        }
+
+        /**
+         * Removes every element of this view from the list, unlinking the
+         * whole range with one relink.
+         */
+        @Override
+        public void clear()
+        {
+            checkForComodification();
+            if(count > 0)
             {
-                head = removed.getNext();
-            }else
+                int removed = count;
+                removeChain(firstNode(), lastNode(), removed);
+                modCount++;
+                changed(-removed);
+            }
+        }
+
+        /**
+         * Removes the elements of this view from fromIndex, inclusive, to
+         * toIndex, exclusive, unlinking them with one relink.
+         *
+         * @param fromIndex the index of the first element to remove
+         * @param toIndex   the index after the last element to remove
+         * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+         */
+        @Override
+        public void removeRange(int fromIndex, int toIndex)
+        {
+            checkForComodification();
+            if(fromIndex < 0 || toIndex > count || fromIndex > toIndex)
             {
-                removed.getPrev().setNext(removed.getNext());
+                throw new IndexOutOfBoundsException();
             }
-            if(removed.getNext() == null)
+            if(fromIndex < toIndex)
             {
-                tail = removed.getPrev();
-            } else
+                DLLNode<T> first = viewNodeAt(fromIndex);
+                DLLNode<T> last = first;
+                for(int i = fromIndex + 1; i < toIndex; i++)
+                {
+                    last = nextOf(last);
+                }
+                removeChain(first, last, toIndex - fromIndex);
+                modCount++;
+                changed(fromIndex - toIndex);
+            }
+        }
+
+        private void checkForComodification()
+        {
+            if(expectedModCount != modCount)
             {
-                removed.getNext().setPrev(removed.getPrev());
+                throw new ConcurrentModificationException();
             }
-            size--;
-            modCount++;
-            iterModCount++;
-            lastReturned = null;
-            canChange = false;
+        }
+
+        /**
+         * Records a change made through this view in it and every view it was taken from.
+         *
+         * @param delta the change in the number of elements
+         */
+        private void changed(int delta)
+        {
+            for(SubList view = this; view != null; view = view.parentView)
+            {
+                view.count += delta;
+                view.expectedModCount = modCount;
+            }
+        }
 
+        private DLLNode<T> firstNode()
+        {
+            return before == null ? front() : nextOf(before);
         }
 
-        @Override
-        public void set(T e) 
+        private DLLNode<T> lastNode()
         {
-            if(iterModCount != modCount)
+            return after == null ? rear() : prevOf(after);
+        }
+
+        /**
+         * Returns the node at the given index of this view, walking from whichever boundary is nearer.
+         *
+         * @param index an index between 0 and count - 1
+         * @return the node at index
+         */
+        private DLLNode<T> viewNodeAt(int index)
+        {
+            DLLNode<T> currentNode;
+            if(index < count / 2)
             {
-                throw new ConcurrentModificationException();
+                currentNode = firstNode();
+                for(int i = 0; i < index; i++)
+                {
+                    currentNode = nextOf(currentNode);
+                }
+            } else
+            {
+                currentNode = lastNode();
+                for(int i = count - 1; i > index; i--)
+                {
+                    currentNode = prevOf(currentNode);
+                }
             }
-            if(!canChange || lastReturned == null)
+            return currentNode;
+        }
+
+        /**
+         * Returns the first node of this view holding an element equal to target.
+         *
+         * @param target the element being sought
+         * @return the first matching node, or null if target is not in this view
+         */
+        private DLLNode<T> viewFindNode(T target)
+        {
+            DLLNode<T> currentNode = firstNode();
+            for(int i = 0; i < count; i++)
             {
-                throw new IllegalStateException();
+                if(currentNode.getElement().equals(target))
+                {
+                    return currentNode;
+                }
+                currentNode = nextOf(currentNode);
             }
-            lastReturned.setElement(e);
-            modCount++;
-            iterModCount++;
-            canChange = false;
+            return null;
         }
 
-        @Override
-        public void add(T e) 
+        private class SubListIterator implements ListIterator<T>
         {
-            if(iterModCount != modCount)
+            //variables
+            private DLLNode<T> nextNode;
+            private int nextIndex;
+            private boolean canChange;
+            private DLLNode<T> lastReturned;
+
+            //constructor
+            public SubListIterator(int index)
             {
-                throw new ConcurrentModificationException();
+                nextNode = index == count ? after : viewNodeAt(index);
+                nextIndex = index;
+                canChange = false;
+                lastReturned = null;
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                checkForComodification();
+                return nextIndex < count;
             }
-            Node<T> newNode = new Node<T>(e);
-            if(nextNode == null)
+
+            @Override
+            public T next()
             {
-                if(tail == null)
+                if(!hasNext())
                 {
-                    head = tail = newNode;
-                } else
+                    throw new NoSuchElementException();
+                }
+                lastReturned = nextNode;
+                nextNode = nextOf(nextNode);
+                nextIndex++;
+                canChange = true;
+                return lastReturned.getElement();
+            }
+
+            @Override
+            public boolean hasPrevious()
+            {
+                checkForComodification();
+                return nextIndex > 0;
+            }
+
+            @Override
+            public T previous()
+            {
+                if(!hasPrevious())
                 {
-                    tail.setNext(newNode);
-                    newNode.setPrev(tail);
-                    tail = newNode;
+                    throw new NoSuchElementException();
                 }
-            } else
+                nextNode = nextNode == null ? rear() : prevOf(nextNode);
+                nextIndex--;
+                lastReturned = nextNode;
+                canChange = true;
+                return lastReturned.getElement();
+            }
+
+            @Override
+            public int nextIndex()
+            {
+                checkForComodification();
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex()
+            {
+                checkForComodification();
+                return nextIndex - 1;
+            }
+
+            @Override
+            public void remove()
             {
-                Node<T> prevNode = nextNode.getPrev();
-                newNode.setNext(nextNode);
-                newNode.setPrev(prevNode);
-                nextNode.setPrev(newNode);
-                if(prevNode == null)
+                checkForComodification();
+                if(!canChange || lastReturned == null)
                 {
-                    head = newNode;
+                    throw new IllegalStateException();
+                }
+                if(lastReturned == nextNode)
+                {
+                    nextNode = nextOf(nextNode);
                 } else
                 {
-                    prevNode.setNext(newNode);
+                    nextIndex--;
                 }
+                unlink(lastReturned);
+                modCount++;
+                changed(-1);
+                lastReturned = null;
+                canChange = false;
+            }
+
+            @Override
+            public void set(T e)
+            {
+                checkForComodification();
+                if(!canChange || lastReturned == null)
+                {
+                    throw new IllegalStateException();
+                }
+                unindexNode(lastReturned);
+                lastReturned.setElement(e);
+                indexNode(lastReturned);
+                modCount++;
+                changed(0);
+                canChange = false;
+            }
+
+            @Override
+            public void add(T e)
+            {
+                checkForComodification();
+                DLLNode<T> newNode = newNode(e);
+                splice(nextNode, newNode, newNode, 1);
+                nextIndex++;
+                modCount++;
+                changed(1);
+                lastReturned = null;
+                canChange = false;
             }
-            nextIndex++;
-            size++;
-            modCount++;
-            iterModCount++;
-            lastReturned = null;
-            canChange = false;
         }
-        
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,892 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent implementation of an indexed unsorted list with O(1) snapshots.
+ * Elements are kept in an immutable AVL tree with subtree sizes. Every
+ * change copies only the O(log n) nodes on the path it touches and then
+ * swaps in a new root, so older roots stay valid and share every untouched
+ * subtree with the current one.
+ *
+ * snapshot() captures the current root in O(1) and returns a read-only
+ * list that never changes, so reporting threads can read a consistent view
+ * while a writer keeps mutating this list. Snapshot iterators never fail.
+ * This list's own iterators are fail-fast like the other lists here.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUPersistentList<T> implements IndexedUnsortedList<T>
+{
+    private volatile PNode<T> root;
+    private int modCount;
+
+    /**
+     * Default constructor for a persistent list
+     */
+    public IUPersistentList()
+    {
+        root = null;
+        modCount = 0;
+    }
+
+    /**
+     * Returns a read-only view of the list as it is now. Later changes to this
+     * list do not show through it. Taking a snapshot copies nothing.
+     *
+     * @return an unchanging IndexedUnsortedList holding the current elements
+     */
+    public IndexedUnsortedList<T> snapshot()
+    {
+        return new Snapshot<T>(root);
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        root = insert(root, 0, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        root = insert(root, size(root), element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        int index = indexOf(root, target);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        root = insert(root, index + 1, element);
+        modCount++;
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size(root))
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        root = insert(root, index, element);
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(root == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(root == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return remove(size(root) - 1);
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        int index = indexOf(root, element);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size(root))
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        T retVal = get(root, index);
+        root = delete(root, index);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size(root))
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        root = replace(root, index, element);
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        PNode<T> current = root;
+        if(index < 0 || index >= size(current))
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return get(current, index);
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        return indexOf(root, element);
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        return first(root);
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        return last(root);
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return indexOf(root, target) > -1;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return root == null;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return size(root);
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        return toString(root);
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new PersistentListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new PersistentListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        if(startingIndex < 0 || startingIndex > size(root))
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new PersistentListIterator(startingIndex);
+    }
+
+    /////////////////////
+    // tree operations, shared with snapshots
+    /////////////////////
+
+    private static int size(PNode<?> node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(PNode<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <E> E get(PNode<E> node, int index)
+    {
+        while(true)
+        {
+            int leftSize = size(node.left);
+            if(index < leftSize)
+            {
+                node = node.left;
+            } else if(index == leftSize)
+            {
+                return node.element;
+            } else
+            {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private static <E> E first(PNode<E> node)
+    {
+        if(node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return get(node, 0);
+    }
+
+    private static <E> E last(PNode<E> node)
+    {
+        if(node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return get(node, node.size - 1);
+    }
+
+    /**
+     * Returns the in-order index of the first element in the subtree equal to target.
+     *
+     * @param node   the root of the subtree, or null
+     * @param target the element being sought
+     * @return the index within the subtree, or -1 if target is not in it
+     */
+    private static <E> int indexOf(PNode<E> node, E target)
+    {
+        if(node == null)
+        {
+            return -1;
+        }
+        int leftIndex = indexOf(node.left, target);
+        if(leftIndex > -1)
+        {
+            return leftIndex;
+        }
+        if(node.element.equals(target))
+        {
+            return size(node.left);
+        }
+        int rightIndex = indexOf(node.right, target);
+        return rightIndex == -1 ? -1 : size(node.left) + 1 + rightIndex;
+    }
+
+    private static String toString(PNode<?> node)
+    {
+        StringBuilder string = new StringBuilder("[");
+        appendElements(node, string);
+        if(node != null)
+        {
+            string.setLength(string.length() - 1);
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    private static void appendElements(PNode<?> node, StringBuilder string)
+    {
+        if(node != null)
+        {
+            appendElements(node.left, string);
+            string.append(node.element);
+            string.append(",");
+            appendElements(node.right, string);
+        }
+    }
+
+    /**
+     * Returns a copy of the subtree with element inserted at index.
+     *
+     * @param node    the root of the subtree, or null
+     * @param index   an index between 0 and the size of the subtree
+     * @param element the element to insert
+     * @return the root of the new subtree
+     */
+    private static <E> PNode<E> insert(PNode<E> node, int index, E element)
+    {
+        if(node == null)
+        {
+            return new PNode<E>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if(index <= leftSize)
+        {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        }
+        return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns a copy of the subtree with the element at index removed.
+     *
+     * @param node  the root of the subtree
+     * @param index an index within the subtree
+     * @return the root of the new subtree, or null if it is now empty
+     */
+    private static <E> PNode<E> delete(PNode<E> node, int index)
+    {
+        int leftSize = size(node.left);
+        if(index < leftSize)
+        {
+            return balance(delete(node.left, index), node.element, node.right);
+        }
+        if(index > leftSize)
+        {
+            return balance(node.left, node.element, delete(node.right, index - leftSize - 1));
+        }
+        if(node.left == null)
+        {
+            return node.right;
+        }
+        if(node.right == null)
+        {
+            return node.left;
+        }
+        return balance(node.left, get(node.right, 0), delete(node.right, 0));
+    }
+
+    /**
+     * Returns a copy of the subtree with the element at index replaced.
+     *
+     * @param node    the root of the subtree
+     * @param index   an index within the subtree
+     * @param element the replacement element
+     * @return the root of the new subtree
+     */
+    private static <E> PNode<E> replace(PNode<E> node, int index, E element)
+    {
+        int leftSize = size(node.left);
+        if(index < leftSize)
+        {
+            return new PNode<E>(replace(node.left, index, element), node.element, node.right);
+        }
+        if(index > leftSize)
+        {
+            return new PNode<E>(node.left, node.element, replace(node.right, index - leftSize - 1, element));
+        }
+        return new PNode<E>(node.left, element, node.right);
+    }
+
+    /**
+     * Builds a node from two subtrees whose heights differ by at most two,
+     * rotating with new nodes where needed to restore the AVL balance.
+     *
+     * @param left    the left subtree
+     * @param element the element between them
+     * @param right   the right subtree
+     * @return the root of the balanced subtree
+     */
+    private static <E> PNode<E> balance(PNode<E> left, E element, PNode<E> right)
+    {
+        int balance = height(left) - height(right);
+        if(balance > 1)
+        {
+            if(height(left.left) >= height(left.right))
+            {
+                return new PNode<E>(left.left, left.element, new PNode<E>(left.right, element, right));
+            }
+            return new PNode<E>(new PNode<E>(left.left, left.element, left.right.left), left.right.element,
+                    new PNode<E>(left.right.right, element, right));
+        }
+        if(balance < -1)
+        {
+            if(height(right.right) >= height(right.left))
+            {
+                return new PNode<E>(new PNode<E>(left, element, right.left), right.element, right.right);
+            }
+            return new PNode<E>(new PNode<E>(left, element, right.left.left), right.left.element,
+                    new PNode<E>(right.left.right, right.element, right.right));
+        }
+        return new PNode<E>(left, element, right);
+    }
+
+    /**
+     * An immutable tree node holding one element along with the height and size of its subtree.
+     */
+    private static final class PNode<E>
+    {
+        private final PNode<E> left;
+        private final E element;
+        private final PNode<E> right;
+        private final int height;
+        private final int size;
+
+        public PNode(PNode<E> left, E element, PNode<E> right)
+        {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    /**
+     * A read-only list over one root of the tree. Every mutator throws
+     * UnsupportedOperationException and iterators never fail.
+     */
+    private static final class Snapshot<E> implements IndexedUnsortedList<E>
+    {
+        private final PNode<E> root;
+
+        public Snapshot(PNode<E> root)
+        {
+            this.root = root;
+        }
+
+        @Override
+        public void addToFront(E element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addToRear(E element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAfter(E element, E target)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(int index, E element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E removeFirst()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E removeLast()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E remove(E element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E remove(int index)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(int index, E element)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E get(int index)
+        {
+            if(index < 0 || index >= IUPersistentList.size(root))
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return IUPersistentList.get(root, index);
+        }
+
+        @Override
+        public int indexOf(E element)
+        {
+            return IUPersistentList.indexOf(root, element);
+        }
+
+        @Override
+        public E first()
+        {
+            return IUPersistentList.first(root);
+        }
+
+        @Override
+        public E last()
+        {
+            return IUPersistentList.last(root);
+        }
+
+        @Override
+        public boolean contains(E target)
+        {
+            return IUPersistentList.indexOf(root, target) > -1;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return root == null;
+        }
+
+        @Override
+        public int size()
+        {
+            return IUPersistentList.size(root);
+        }
+
+        @Override
+        public String toString()
+        {
+            return IUPersistentList.toString(root);
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new SnapshotIterator<E>(root, 0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator()
+        {
+            return new SnapshotIterator<E>(root, 0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int startingIndex)
+        {
+            if(startingIndex < 0 || startingIndex > IUPersistentList.size(root))
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return new SnapshotIterator<E>(root, startingIndex);
+        }
+    }
+
+    /**
+     * A read-only ListIterator over one root of the tree. Each step descends
+     * from the root, which is O(log n), and never sees later changes.
+     */
+    private static class SnapshotIterator<E> implements ListIterator<E>
+    {
+        //variables
+        protected PNode<E> root;
+        protected int nextIndex;
+        protected int lastIndex;
+
+        //constructor
+        public SnapshotIterator(PNode<E> root, int index)
+        {
+            this.root = root;
+            nextIndex = index;
+            lastIndex = -1;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextIndex < size(root);
+        }
+
+        @Override
+        public E next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastIndex = nextIndex++;
+            return get(root, lastIndex);
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            lastIndex = --nextIndex;
+            return get(root, lastIndex);
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E e)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E e)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The fail-fast ListIterator of the live list. It reads the root it last
+     * saw and writes through the list, picking up the new root afterwards.
+     */
+    private class PersistentListIterator extends SnapshotIterator<T>
+    {
+        private int iterModCount;
+
+        public PersistentListIterator(int index)
+        {
+            super(IUPersistentList.this.root, index);
+            iterModCount = modCount;
+        }
+
+        private void checkForComodification()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            checkForComodification();
+            return super.hasNext();
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            checkForComodification();
+            return super.hasPrevious();
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            checkForComodification();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            checkForComodification();
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            checkForComodification();
+            if(lastIndex == -1)
+            {
+                throw new IllegalStateException();
+            }
+            IUPersistentList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            afterChange();
+        }
+
+        @Override
+        public void set(T e)
+        {
+            checkForComodification();
+            if(lastIndex == -1)
+            {
+                throw new IllegalStateException();
+            }
+            IUPersistentList.this.set(lastIndex, e);
+            afterChange();
+        }
+
+        @Override
+        public void add(T e)
+        {
+            checkForComodification();
+            IUPersistentList.this.add(nextIndex, e);
+            nextIndex++;
+            afterChange();
+        }
+
+        private void afterChange()
+        {
+            root = IUPersistentList.this.root;
+            iterModCount = modCount;
+            lastIndex = -1;
+        }
+    }
+}
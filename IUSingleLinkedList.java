@@ -0,0 +1,505 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Single linked list implementation of an indexed unsorted list. Nodes
+ * carry only a next reference, which saves one reference per element over
+ * the double linked list. Head and tail references keep addToFront,
+ * addToRear and removeFirst O(1). Anything that must step backwards, such
+ * as removeLast, walks from the head. Iteration is forward only and
+ * listIterator is not supported.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUSingleLinkedList<T> implements IndexedUnsortedList<T>
+{
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Default constructor for a single linked list
+     */
+    public IUSingleLinkedList()
+    {
+        head = tail = null;
+        size = 0;
+        modCount = 0;
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        linkAfter(null, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        linkAfter(tail, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        Node<T> targetNode = head;
+        while(targetNode != null && !targetNode.getElement().equals(target))
+        {
+            targetNode = targetNode.getNext();
+        }
+        if(targetNode == null)
+        {
+            throw new NoSuchElementException();
+        }
+        linkAfter(targetNode, element);
+        modCount++;
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        linkAfter(index == 0 ? null : nodeAt(index - 1), element);
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(head == null)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlinkAfter(null);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(tail == null)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlinkAfter(size == 1 ? null : nodeAt(size - 2));
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        Node<T> previous = null;
+        Node<T> current = head;
+        while(current != null && !current.getElement().equals(element))
+        {
+            previous = current;
+            current = current.getNext();
+        }
+        if(current == null)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlinkAfter(previous);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        T retVal = unlinkAfter(index == 0 ? null : nodeAt(index - 1));
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).setElement(element);
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).getElement();
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        int index = 0;
+        Node<T> current = head;
+        while(current != null)
+        {
+            if(current.getElement().equals(element))
+            {
+                return index;
+            }
+            current = current.getNext();
+            index++;
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        if(head == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return head.getElement();
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        if(tail == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return tail.getElement();
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return indexOf(target) > -1;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        Node<T> current = head;
+        while(current != null)
+        {
+            string.append(current.getElement());
+            string.append(",");
+            current = current.getNext();
+        }
+        if(string.length() > 1)
+        {
+            string.setLength(string.length() - 1);
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SLLIterator();
+    }
+
+    /*
+     * Not supported by this list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Not supported by this list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the node at the given index, walking from the head.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the node at index
+     */
+    private Node<T> nodeAt(int index)
+    {
+        if(index == size - 1)
+        {
+            return tail;
+        }
+        Node<T> current = head;
+        for(int i = 0; i < index; i++)
+        {
+            current = current.getNext();
+        }
+        return current;
+    }
+
+    /**
+     * Links a new node holding element after previous, or at the front if previous is null.
+     * Updates size but not modCount.
+     *
+     * @param previous the node the new one will follow, or null
+     * @param element  the element to store
+     */
+    private void linkAfter(Node<T> previous, T element)
+    {
+        Node<T> newNode = new Node<T>(element);
+        if(previous == null)
+        {
+            newNode.setNext(head);
+            head = newNode;
+        } else
+        {
+            newNode.setNext(previous.getNext());
+            previous.setNext(newNode);
+        }
+        if(newNode.getNext() == null)
+        {
+            tail = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Unlinks the node following previous, or the head if previous is null.
+     * Updates size but not modCount.
+     *
+     * @param previous the node before the one to unlink, or null
+     * @return the element the unlinked node held
+     */
+    private T unlinkAfter(Node<T> previous)
+    {
+        Node<T> removed = previous == null ? head : previous.getNext();
+        if(previous == null)
+        {
+            head = removed.getNext();
+        } else
+        {
+            previous.setNext(removed.getNext());
+        }
+        if(removed == tail)
+        {
+            tail = previous;
+        }
+        removed.setNext(null);
+        size--;
+        return removed.getElement();
+    }
+
+    private class SLLIterator implements Iterator<T>
+    {
+        //variables
+        private Node<T> nextNode;
+        //after a remove, lastReturned falls back to the node before the removed one
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int iterModCount;
+        private boolean canRemove;
+
+        //constructor
+        public SLLIterator()
+        {
+            nextNode = head;
+            lastReturned = null;
+            beforeLastReturned = null;
+            this.iterModCount = modCount;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            beforeLastReturned = lastReturned;
+            lastReturned = nextNode;
+            nextNode = nextNode.getNext();
+            canRemove = true;
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            unlinkAfter(beforeLastReturned);
+            lastReturned = beforeLastReturned;
+            modCount++;
+            iterModCount++;
+            canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,919 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Indexable skip list implementation of an indexed unsorted list.
+ * Level 0 is an ordinary doubly linked list; the upper levels are express
+ * lanes whose links record how many elements they span, so every positional
+ * method seeks in O(log n) expected time.
+ * The first and last node of each level are kept as fingers, which lets
+ * the end operations relink only the levels of the node they touch.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUSkipList<T> implements IndexedUnsortedList<T>
+{
+    private static final int MAX_LEVEL = 32;
+
+    private final Random random;
+    private final SkipNode<T>[] first;
+    private final SkipNode<T>[] last;
+    //positions of first[i] and last[i] are firstPos[i] + shift and lastPos[i] + shift
+    private final int[] firstPos;
+    private final int[] lastPos;
+    private int shift;
+    private int levels;
+    private int size;
+    private int modCount;
+
+    /**
+     * Default constructor for a skip list
+     */
+    public IUSkipList()
+    {
+        this(new Random());
+    }
+
+    /**
+     * Constructor for a skip list whose node heights are drawn from the given source
+     *
+     * @param random the source of node heights
+     */
+    @SuppressWarnings("unchecked")
+    public IUSkipList(Random random)
+    {
+        this.random = random;
+        first = (SkipNode<T>[]) new SkipNode<?>[MAX_LEVEL];
+        last = (SkipNode<T>[]) new SkipNode<?>[MAX_LEVEL];
+        firstPos = new int[MAX_LEVEL];
+        lastPos = new int[MAX_LEVEL];
+        shift = 0;
+        levels = 0;
+        size = 0;
+        modCount = 0;
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        linkFirst(element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        linkLast(element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        int index = indexOf(target);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        insertAt(index + 1, element);
+        modCount++;
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlinkFirst();
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = unlinkLast();
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        int index = indexOf(element);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = removeAt(index);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        T retVal = removeAt(index);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).element = element;
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).element;
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        int currentIndex = 0;
+        for(SkipNode<T> currentNode = first[0]; currentNode != null; currentNode = currentNode.next[0])
+        {
+            if(currentNode.element.equals(element))
+            {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return first[0].element;
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return last[0].element;
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return indexOf(target) > -1;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        for(SkipNode<T> currentNode = first[0]; currentNode != null; currentNode = currentNode.next[0])
+        {
+            string.append(currentNode.element);
+            if(currentNode.next[0] != null)
+            {
+                string.append(",");
+            }
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SkipListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new SkipListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        if(startingIndex < 0 || startingIndex > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SkipListIterator(startingIndex);
+    }
+
+    /**
+     * Returns a random node height, one with probability 1/2, two with 1/4, and so on.
+     *
+     * @return a height between 1 and MAX_LEVEL
+     */
+    private int randomHeight()
+    {
+        return Math.min(Integer.numberOfTrailingZeros(random.nextInt()) + 1, MAX_LEVEL);
+    }
+
+    /**
+     * Returns the node at the given index, descending the express lanes from the top level.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the node at index
+     */
+    private SkipNode<T> nodeAt(int index)
+    {
+        if(index == size - 1)
+        {
+            return last[0];
+        }
+        SkipNode<T> node = null;
+        int nodePos = -1;
+        for(int i = levels - 1; i >= 0; i--)
+        {
+            SkipNode<T> candidate = node == null ? first[i] : node.next[i];
+            int candidatePos = node == null ? firstPos[i] + shift : nodePos + node.width[i];
+            while(candidate != null && candidatePos <= index)
+            {
+                node = candidate;
+                nodePos = candidatePos;
+                if(nodePos == index)
+                {
+                    return node;
+                }
+                candidate = node.next[i];
+                candidatePos = nodePos + node.width[i];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Fills update with the last node on each level positioned before index,
+     * or null where that is the front of the level, and updatePos with their positions.
+     *
+     * @param index     the index being sought
+     * @param update    receives the predecessor on each level
+     * @param updatePos receives the position of each predecessor
+     */
+    private void findPredecessors(int index, SkipNode<T>[] update, int[] updatePos)
+    {
+        SkipNode<T> node = null;
+        int nodePos = -1;
+        for(int i = levels - 1; i >= 0; i--)
+        {
+            SkipNode<T> candidate = node == null ? first[i] : node.next[i];
+            int candidatePos = node == null ? firstPos[i] + shift : nodePos + node.width[i];
+            while(candidate != null && candidatePos < index)
+            {
+                node = candidate;
+                nodePos = candidatePos;
+                candidate = node.next[i];
+                candidatePos = nodePos + node.width[i];
+            }
+            update[i] = node;
+            updatePos[i] = nodePos;
+        }
+    }
+
+    /**
+     * Raises the number of levels in use to at least height.
+     *
+     * @param height the height of a node about to be linked
+     */
+    private void growLevels(int height)
+    {
+        while(levels < height)
+        {
+            first[levels] = last[levels] = null;
+            levels++;
+        }
+    }
+
+    /**
+     * Drops empty levels from the top of the list.
+     */
+    private void shrinkLevels()
+    {
+        while(levels > 0 && first[levels - 1] == null)
+        {
+            levels--;
+        }
+        if(levels == 0)
+        {
+            shift = 0;
+        }
+    }
+
+    /**
+     * Links a new node at the front, touching only the levels of the new node.
+     * Updates size but not modCount.
+     *
+     * @param element the element to store
+     * @return the new node
+     */
+    private SkipNode<T> linkFirst(T element)
+    {
+        SkipNode<T> newNode = new SkipNode<T>(element, randomHeight());
+        growLevels(newNode.height());
+        shift++;
+        for(int i = 0; i < newNode.height(); i++)
+        {
+            SkipNode<T> successor = first[i];
+            if(successor != null)
+            {
+                newNode.next[i] = successor;
+                newNode.width[i] = firstPos[i] + shift;
+                successor.prev[i] = newNode;
+            } else
+            {
+                last[i] = newNode;
+                lastPos[i] = -shift;
+            }
+            first[i] = newNode;
+            firstPos[i] = -shift;
+        }
+        size++;
+        return newNode;
+    }
+
+    /**
+     * Links a new node at the rear, touching only the levels of the new node.
+     * Updates size but not modCount.
+     *
+     * @param element the element to store
+     * @return the new node
+     */
+    private SkipNode<T> linkLast(T element)
+    {
+        SkipNode<T> newNode = new SkipNode<T>(element, randomHeight());
+        growLevels(newNode.height());
+        for(int i = 0; i < newNode.height(); i++)
+        {
+            SkipNode<T> predecessor = last[i];
+            if(predecessor != null)
+            {
+                predecessor.next[i] = newNode;
+                predecessor.width[i] = size - (lastPos[i] + shift);
+                newNode.prev[i] = predecessor;
+            } else
+            {
+                first[i] = newNode;
+                firstPos[i] = size - shift;
+            }
+            last[i] = newNode;
+            lastPos[i] = size - shift;
+        }
+        size++;
+        return newNode;
+    }
+
+    /**
+     * Unlinks the first node, touching only the levels of that node.
+     * Updates size but not modCount.
+     *
+     * @return the removed element
+     */
+    private T unlinkFirst()
+    {
+        SkipNode<T> removed = first[0];
+        shift--;
+        for(int i = 0; i < removed.height(); i++)
+        {
+            SkipNode<T> successor = removed.next[i];
+            first[i] = successor;
+            if(successor != null)
+            {
+                successor.prev[i] = null;
+                firstPos[i] = removed.width[i] - 1 - shift;
+            } else
+            {
+                last[i] = null;
+            }
+        }
+        size--;
+        shrinkLevels();
+        return removed.element;
+    }
+
+    /**
+     * Unlinks the last node, touching only the levels of that node.
+     * Updates size but not modCount.
+     *
+     * @return the removed element
+     */
+    private T unlinkLast()
+    {
+        SkipNode<T> removed = last[0];
+        int removedPos = size - 1;
+        for(int i = 0; i < removed.height(); i++)
+        {
+            SkipNode<T> predecessor = removed.prev[i];
+            last[i] = predecessor;
+            if(predecessor != null)
+            {
+                predecessor.next[i] = null;
+                lastPos[i] = removedPos - predecessor.width[i] - shift;
+            } else
+            {
+                first[i] = null;
+            }
+        }
+        size--;
+        shrinkLevels();
+        return removed.element;
+    }
+
+    /**
+     * Links a new node so that it ends up at the given index.
+     * Updates size but not modCount.
+     *
+     * @param index   an index between 0 and size
+     * @param element the element to store
+     * @return the new node
+     */
+    @SuppressWarnings("unchecked")
+    private SkipNode<T> insertAt(int index, T element)
+    {
+        if(index == 0)
+        {
+            return linkFirst(element);
+        }
+        if(index == size)
+        {
+            return linkLast(element);
+        }
+        SkipNode<T> newNode = new SkipNode<T>(element, randomHeight());
+        growLevels(newNode.height());
+        SkipNode<T>[] update = (SkipNode<T>[]) new SkipNode<?>[levels];
+        int[] updatePos = new int[levels];
+        findPredecessors(index, update, updatePos);
+        for(int i = 0; i < levels; i++)
+        {
+            //every finger at or after index moves back one place
+            if(first[i] != null && firstPos[i] + shift >= index)
+            {
+                firstPos[i]++;
+            }
+            if(last[i] != null && lastPos[i] + shift >= index)
+            {
+                lastPos[i]++;
+            }
+            SkipNode<T> predecessor = update[i];
+            SkipNode<T> successor = predecessor == null ? first[i] : predecessor.next[i];
+            if(i >= newNode.height())
+            {
+                if(predecessor != null && successor != null)
+                {
+                    predecessor.width[i]++;
+                }
+                continue;
+            }
+            if(successor != null)
+            {
+                int successorPos = predecessor == null ? firstPos[i] + shift : updatePos[i] + predecessor.width[i] + 1;
+                newNode.next[i] = successor;
+                newNode.width[i] = successorPos - index;
+                successor.prev[i] = newNode;
+            } else
+            {
+                last[i] = newNode;
+                lastPos[i] = index - shift;
+            }
+            newNode.prev[i] = predecessor;
+            if(predecessor != null)
+            {
+                predecessor.next[i] = newNode;
+                predecessor.width[i] = index - updatePos[i];
+            } else
+            {
+                first[i] = newNode;
+                firstPos[i] = index - shift;
+            }
+        }
+        size++;
+        return newNode;
+    }
+
+    /**
+     * Unlinks the node at the given index.
+     * Updates size but not modCount.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    private T removeAt(int index)
+    {
+        if(index == 0)
+        {
+            return unlinkFirst();
+        }
+        if(index == size - 1)
+        {
+            return unlinkLast();
+        }
+        SkipNode<T>[] update = (SkipNode<T>[]) new SkipNode<?>[levels];
+        int[] updatePos = new int[levels];
+        findPredecessors(index, update, updatePos);
+        SkipNode<T> removed = update[0].next[0];
+        for(int i = 0; i < levels; i++)
+        {
+            //every finger after index moves forward one place
+            if(first[i] != null && firstPos[i] + shift > index)
+            {
+                firstPos[i]--;
+            }
+            if(last[i] != null && lastPos[i] + shift > index)
+            {
+                lastPos[i]--;
+            }
+            SkipNode<T> predecessor = update[i];
+            if(i >= removed.height())
+            {
+                if(predecessor != null && predecessor.next[i] != null)
+                {
+                    predecessor.width[i]--;
+                }
+                continue;
+            }
+            SkipNode<T> successor = removed.next[i];
+            if(predecessor != null)
+            {
+                predecessor.next[i] = successor;
+                predecessor.width[i] += removed.width[i] - 1;
+            } else
+            {
+                first[i] = successor;
+                if(successor != null)
+                {
+                    firstPos[i] = index + removed.width[i] - 1 - shift;
+                }
+            }
+            if(successor != null)
+            {
+                successor.prev[i] = predecessor;
+            } else
+            {
+                last[i] = predecessor;
+                if(predecessor != null)
+                {
+                    lastPos[i] = updatePos[i] - shift;
+                }
+            }
+        }
+        size--;
+        shrinkLevels();
+        return removed.element;
+    }
+
+    /**
+     * A skip list node with forward and backward links and link widths on each of its levels.
+     */
+    private static class SkipNode<E>
+    {
+        private E element;
+        private final SkipNode<E>[] next;
+        private final SkipNode<E>[] prev;
+        //width[i] is the number of positions spanned by next[i], when next[i] is not null
+        private final int[] width;
+
+        @SuppressWarnings("unchecked")
+        public SkipNode(E element, int height)
+        {
+            this.element = element;
+            next = (SkipNode<E>[]) new SkipNode<?>[height];
+            prev = (SkipNode<E>[]) new SkipNode<?>[height];
+            width = new int[height];
+        }
+
+        public int height()
+        {
+            return next.length;
+        }
+    }
+
+    private class SkipListIterator implements ListIterator<T>
+    {
+        //variables
+        private SkipNode<T> nextNode;
+        private int nextIndex;
+        private int iterModCount;
+        private boolean canChange;
+        private SkipNode<T> lastReturned;
+
+        //constructor
+        public SkipListIterator(int index)
+        {
+            nextNode = index < size ? nodeAt(index) : null;
+            nextIndex = index;
+            this.iterModCount = modCount;
+            canChange = false;
+            lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.next[0];
+            nextIndex++;
+            canChange = true;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            nextNode = nextNode == null ? last[0] : nextNode.prev[0];
+            nextIndex--;
+            lastReturned = nextNode;
+            canChange = true;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            if(lastReturned == nextNode)
+            {
+                nextNode = nextNode.next[0];
+            } else
+            {
+                nextIndex--;
+            }
+            removeAt(nextIndex);
+            modCount++;
+            iterModCount++;
+            lastReturned = null;
+            canChange = false;
+        }
+
+        @Override
+        public void set(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            lastReturned.element = e;
+            modCount++;
+            iterModCount++;
+            canChange = false;
+        }
+
+        @Override
+        public void add(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            insertAt(nextIndex, e);
+            nextIndex++;
+            modCount++;
+            iterModCount++;
+            lastReturned = null;
+            canChange = false;
+        }
+    }
+}
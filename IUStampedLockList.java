@@ -0,0 +1,684 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe decorator for an indexed unsorted list, built for read-mostly use.
+ * Short reads (size, isEmpty, first, last and get near either end) run
+ * under an optimistic stamp and take no lock unless a writer got in
+ * the way. Scans such as indexOf, contains and toString hold a read lock,
+ * so readers only wait for writers and never for each other. Every
+ * mutation holds the write lock.
+ *
+ * Iterators are built from a snapshot taken under the read lock. They never
+ * throw ConcurrentModificationException, do not reflect later changes, and
+ * do not support remove, set or add.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUStampedLockList<T> implements IndexedUnsortedList<T>
+{
+    //get(int) is tried optimistically this close to either end of the list
+    private static final int OPTIMISTIC_SPAN = 32;
+
+    private final IndexedUnsortedList<T> list;
+    private final StampedLock lock;
+    //false when the wrapped list's get walks from the front, so a read near the tail is O(n)
+    private final boolean optimisticTail;
+
+    /**
+     * Constructor for a thread-safe view of the given list. The list must not
+     * be used directly once it has been wrapped.
+     *
+     * @param list the list to guard
+     */
+    public IUStampedLockList(IndexedUnsortedList<T> list)
+    {
+        this.list = list;
+        lock = new StampedLock();
+        optimisticTail = !(list instanceof IUSingleLinkedList || list instanceof IUConcurrentDeque);
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.addToFront(element);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.addToRear(element);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.addAfter(element, target);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.add(index, element);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Adds every element of the given source to the rear of this list, in order,
+     * under one write lock, so no reader sees only part of them.
+     * A list may be added to itself.
+     *
+     * @param elements the elements to be added to the rear of this list
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elements)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            //this list's iterator takes the read lock, so read the wrapped list instead
+            list.addAll(elements == this ? list : elements);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Inserts every element of the given source at the specified index, in order,
+     * under one write lock. A list may be added to itself.
+     *
+     * @param index    the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends T> elements)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.addAll(index, elements == this ? list : elements);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Adds len elements of src, starting at src[off], to the rear of this list,
+     * in order, under one write lock.
+     *
+     * @param src the array holding the elements to be added
+     * @param off the index in src of the first element to add
+     * @param len the number of elements to add
+     * @throws IndexOutOfBoundsException if off < 0, len < 0 or off + len > src.length
+     */
+    @Override
+    public void addBatch(T[] src, int off, int len)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.addBatch(src, off, len);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.removeFirst();
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.removeLast();
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.remove(element);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.remove(index);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes every element that satisfies the given predicate, holding the
+     * write lock for the whole pass. removeAll and retainAll go through here.
+     *
+     * @param filter returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.removeIf(filter);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive.
+     *
+     * @param fromIndex the index of the first element to remove
+     * @param toIndex   the index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.removeRange(fromIndex, toIndex);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Removes every element from this list.
+     */
+    @Override
+    public void clear()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.clear();
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.set(index, element);
+        } finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * Returns a reference to the element at the specified index. Indexes near
+     * either end are read optimistically; the rest hold the read lock. When
+     * the wrapped list can only walk from the front, as IUSingleLinkedList
+     * and IUConcurrentDeque do, only indexes near the front are read
+     * optimistically, since a walk to the tail is too long to retry.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+        if(stamp != 0 && lock.validate(stamp) && (index < OPTIMISTIC_SPAN || optimisticTail && index >= size - OPTIMISTIC_SPAN))
+        {
+            return optimisticRead(() -> list.get(index));
+        }
+        return lockedRead(() -> list.get(index));
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return list.indexOf(element);
+        } finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        return optimisticRead(() -> list.first());
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        return optimisticRead(() -> list.last());
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return list.contains(target);
+        } finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+        if(!lock.validate(stamp))
+        {
+            stamp = lock.readLock();
+            try
+            {
+                size = list.size();
+            } finally
+            {
+                lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        return lockedRead(() -> list.toString());
+    }
+
+    /*
+     * Returns an Iterator over a snapshot of the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SnapshotIterator(snapshot(), 0);
+    }
+
+    /*
+     * Returns a read-only ListIterator over a snapshot of the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new SnapshotIterator(snapshot(), 0);
+    }
+
+    /*
+     * Returns a read-only ListIterator over a snapshot of the elements in this
+     * list, with the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        Object[] elements = snapshot();
+        if(startingIndex < 0 || startingIndex > elements.length)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SnapshotIterator(elements, startingIndex);
+    }
+
+    /*
+     * Returns a Spliterator over a snapshot of the elements in this list.
+     * Its size comes from the same snapshot, so it stays exact however
+     * the list changes while a stream runs.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Runs a short read without locking, and runs it again under the read lock
+     * if a writer changed the list in the meantime. An exception thrown by
+     * a read that overlapped a write is discarded along with its result.
+     *
+     * @param read the read to perform
+     * @return the result of a read that saw no concurrent write
+     */
+    private <R> R optimisticRead(Supplier<R> read)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0)
+        {
+            try
+            {
+                R result = read.get();
+                if(lock.validate(stamp))
+                {
+                    return result;
+                }
+            } catch(RuntimeException e)
+            {
+                if(lock.validate(stamp))
+                {
+                    throw e;
+                }
+            }
+        }
+        return lockedRead(read);
+    }
+
+    /**
+     * Runs a read while holding the read lock.
+     *
+     * @param read the read to perform
+     * @return the result of the read
+     */
+    private <R> R lockedRead(Supplier<R> read)
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return read.get();
+        } finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copies the elements of the list into an array under the read lock.
+     *
+     * @return the elements of the list in order
+     */
+    private Object[] snapshot()
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            Object[] elements = new Object[list.size()];
+            int i = 0;
+            for(T element : list)
+            {
+                elements[i++] = element;
+            }
+            return elements;
+        } finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private class SnapshotIterator implements ListIterator<T>
+    {
+        //variables
+        private final Object[] elements;
+        private int nextIndex;
+
+        //constructor
+        public SnapshotIterator(Object[] elements, int index)
+        {
+            this.elements = elements;
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextIndex < elements.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return (T) elements[nextIndex++];
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            return (T) elements[--nextIndex];
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T e)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T e)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,804 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Balanced tree implementation of an indexed unsorted list.
+ * Elements are kept in order in an AVL tree whose nodes record the size of
+ * their subtree, so add(int, T), remove(int), get and set are guaranteed
+ * O(log n) with no randomness. Iterators walk parent links between
+ * neighbouring nodes in amortized O(1).
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUTreeList<T> implements IndexedUnsortedList<T>
+{
+    private TreeNode<T> root;
+    private int modCount;
+
+    /**
+     * Default constructor for a tree list
+     */
+    public IUTreeList()
+    {
+        root = null;
+        modCount = 0;
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        insertAt(0, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        insertAt(size(), element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        int index = indexOf(target);
+        if(index == -1)
+        {
+            throw new NoSuchElementException();
+        }
+        insertAt(index + 1, element);
+        modCount++;
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        TreeNode<T> removed = leftmost(root);
+        deleteNode(removed);
+        modCount++;
+        return removed.element;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        TreeNode<T> removed = rightmost(root);
+        deleteNode(removed);
+        modCount++;
+        return removed.element;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        TreeNode<T> currentNode = root == null ? null : leftmost(root);
+        while(currentNode != null && !currentNode.element.equals(element))
+        {
+            currentNode = successor(currentNode);
+        }
+        if(currentNode == null)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = currentNode.element;
+        deleteNode(currentNode);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        TreeNode<T> removed = nodeAt(index);
+        T retVal = removed.element;
+        deleteNode(removed);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).element = element;
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0 || index >= size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).element;
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        int currentIndex = 0;
+        TreeNode<T> currentNode = root == null ? null : leftmost(root);
+        while(currentNode != null)
+        {
+            if(currentNode.element.equals(element))
+            {
+                return currentIndex;
+            }
+            currentIndex++;
+            currentNode = successor(currentNode);
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return leftmost(root).element;
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return rightmost(root).element;
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return indexOf(target) > -1;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return root == null;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return size(root);
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        TreeNode<T> currentNode = root == null ? null : leftmost(root);
+        while(currentNode != null)
+        {
+            string.append(currentNode.element);
+            currentNode = successor(currentNode);
+            if(currentNode != null)
+            {
+                string.append(",");
+            }
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TreeListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new TreeListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        if(startingIndex < 0 || startingIndex > size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new TreeListIterator(startingIndex);
+    }
+
+    /**
+     * Returns the node at the given index by descending on subtree sizes.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the node at index
+     */
+    private TreeNode<T> nodeAt(int index)
+    {
+        TreeNode<T> node = root;
+        while(true)
+        {
+            int leftSize = size(node.left);
+            if(index < leftSize)
+            {
+                node = node.left;
+            } else if(index == leftSize)
+            {
+                return node;
+            } else
+            {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Links a new node so that it ends up at the given index, then rebalances.
+     *
+     * @param index   an index between 0 and size
+     * @param element the element to store
+     */
+    private void insertAt(int index, T element)
+    {
+        TreeNode<T> newNode = new TreeNode<T>(element);
+        if(root == null)
+        {
+            root = newNode;
+            return;
+        }
+        TreeNode<T> node = root;
+        while(true)
+        {
+            int leftSize = size(node.left);
+            if(index <= leftSize)
+            {
+                if(node.left == null)
+                {
+                    node.left = newNode;
+                    break;
+                }
+                node = node.left;
+            } else
+            {
+                index -= leftSize + 1;
+                if(node.right == null)
+                {
+                    node.right = newNode;
+                    break;
+                }
+                node = node.right;
+            }
+        }
+        newNode.parent = node;
+        rebalanceFrom(node);
+    }
+
+    /**
+     * Removes a node from the tree, then rebalances. A node with two children
+     * takes over its successor's element and the successor's node is removed instead.
+     *
+     * @param node the node to remove
+     * @return the node now holding the element that followed the removed one, or null
+     */
+    private TreeNode<T> deleteNode(TreeNode<T> node)
+    {
+        TreeNode<T> following = successor(node);
+        if(node.left != null && node.right != null)
+        {
+            T removedElement = node.element;
+            node.element = following.element;
+            following.element = removedElement;
+            TreeNode<T> holder = node;
+            node = following;
+            following = holder;
+        }
+        TreeNode<T> child = node.left != null ? node.left : node.right;
+        replaceChild(node.parent, node, child);
+        if(child != null)
+        {
+            child.parent = node.parent;
+        }
+        rebalanceFrom(node.parent);
+        node.parent = node.left = node.right = null;
+        return following;
+    }
+
+    /**
+     * Walks from node up to the root, refreshing heights and sizes and
+     * rotating any node whose subtrees differ in height by more than one.
+     *
+     * @param node the lowest node whose subtree changed, or null
+     */
+    private void rebalanceFrom(TreeNode<T> node)
+    {
+        while(node != null)
+        {
+            update(node);
+            int balance = height(node.left) - height(node.right);
+            if(balance > 1)
+            {
+                if(height(node.left.left) < height(node.left.right))
+                {
+                    rotateLeft(node.left);
+                }
+                node = rotateRight(node);
+            } else if(balance < -1)
+            {
+                if(height(node.right.right) < height(node.right.left))
+                {
+                    rotateRight(node.right);
+                }
+                node = rotateLeft(node);
+            }
+            node = node.parent;
+        }
+    }
+
+    /**
+     * Rotates node's right child up into node's place.
+     *
+     * @param node the root of the subtree to rotate
+     * @return the new root of the subtree
+     */
+    private TreeNode<T> rotateLeft(TreeNode<T> node)
+    {
+        TreeNode<T> pivot = node.right;
+        node.right = pivot.left;
+        if(pivot.left != null)
+        {
+            pivot.left.parent = node;
+        }
+        replaceChild(node.parent, node, pivot);
+        pivot.parent = node.parent;
+        pivot.left = node;
+        node.parent = pivot;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates node's left child up into node's place.
+     *
+     * @param node the root of the subtree to rotate
+     * @return the new root of the subtree
+     */
+    private TreeNode<T> rotateRight(TreeNode<T> node)
+    {
+        TreeNode<T> pivot = node.left;
+        node.left = pivot.right;
+        if(pivot.right != null)
+        {
+            pivot.right.parent = node;
+        }
+        replaceChild(node.parent, node, pivot);
+        pivot.parent = node.parent;
+        pivot.right = node;
+        node.parent = pivot;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Points parent's link to oldChild, or the root if parent is null, at newChild.
+     *
+     * @param parent   the parent of oldChild, or null
+     * @param oldChild the child being replaced
+     * @param newChild the replacement, or null
+     */
+    private void replaceChild(TreeNode<T> parent, TreeNode<T> oldChild, TreeNode<T> newChild)
+    {
+        if(parent == null)
+        {
+            root = newChild;
+        } else if(parent.left == oldChild)
+        {
+            parent.left = newChild;
+        } else
+        {
+            parent.right = newChild;
+        }
+    }
+
+    /**
+     * Recomputes a node's height and subtree size from its children.
+     *
+     * @param node the node to update
+     */
+    private static void update(TreeNode<?> node)
+    {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int height(TreeNode<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(TreeNode<?> node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <E> TreeNode<E> leftmost(TreeNode<E> node)
+    {
+        while(node.left != null)
+        {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static <E> TreeNode<E> rightmost(TreeNode<E> node)
+    {
+        while(node.right != null)
+        {
+            node = node.right;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the node following this one in list order.
+     *
+     * @param node a node in the tree
+     * @return the next node, or null if node is last
+     */
+    private static <E> TreeNode<E> successor(TreeNode<E> node)
+    {
+        if(node.right != null)
+        {
+            return leftmost(node.right);
+        }
+        while(node.parent != null && node.parent.right == node)
+        {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    /**
+     * Returns the node preceding this one in list order.
+     *
+     * @param node a node in the tree
+     * @return the previous node, or null if node is first
+     */
+    private static <E> TreeNode<E> predecessor(TreeNode<E> node)
+    {
+        if(node.left != null)
+        {
+            return rightmost(node.left);
+        }
+        while(node.parent != null && node.parent.left == node)
+        {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    /**
+     * A tree node holding one element along with the height and size of its subtree.
+     */
+    private static class TreeNode<E>
+    {
+        private E element;
+        private TreeNode<E> left;
+        private TreeNode<E> right;
+        private TreeNode<E> parent;
+        private int height;
+        private int size;
+
+        public TreeNode(E element)
+        {
+            this.element = element;
+            left = right = parent = null;
+            height = 1;
+            size = 1;
+        }
+    }
+
+    private class TreeListIterator implements ListIterator<T>
+    {
+        //variables
+        private TreeNode<T> nextNode;
+        private int nextIndex;
+        private int iterModCount;
+        private boolean canChange;
+        private TreeNode<T> lastReturned;
+
+        //constructor
+        public TreeListIterator(int index)
+        {
+            nextNode = index < size() ? nodeAt(index) : null;
+            nextIndex = index;
+            this.iterModCount = modCount;
+            canChange = false;
+            lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextNode;
+            nextNode = successor(nextNode);
+            nextIndex++;
+            canChange = true;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            nextNode = nextNode == null ? rightmost(root) : predecessor(nextNode);
+            nextIndex--;
+            lastReturned = nextNode;
+            canChange = true;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            if(lastReturned != nextNode)
+            {
+                nextIndex--;
+            }
+            nextNode = deleteNode(lastReturned);
+            modCount++;
+            iterModCount++;
+            lastReturned = null;
+            canChange = false;
+        }
+
+        @Override
+        public void set(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            lastReturned.element = e;
+            modCount++;
+            iterModCount++;
+            canChange = false;
+        }
+
+        @Override
+        public void add(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            insertAt(nextIndex, e);
+            nextIndex++;
+            modCount++;
+            iterModCount++;
+            lastReturned = null;
+            canChange = false;
+        }
+    }
+}
@@ -0,0 +1,778 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unrolled linked list implementation of an indexed unsorted list.
+ * Each block holds a small array of elements and links to its neighbouring
+ * blocks, so index seeks skip whole blocks by their counts and scans walk
+ * contiguous arrays instead of chasing one node per element.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IUUnrolledLinkedList<T> implements IndexedUnsortedList<T>
+{
+    private static final int DEFAULT_BLOCK_CAPACITY = 64;
+
+    private final int blockCapacity;
+    private Block head;
+    private Block tail;
+    private int size;
+    private int modCount;
+    private int seekStart;
+    private int insertedOffset;
+    private int followingOffset;
+
+    /**
+     * Default constructor for an unrolled linked list
+     */
+    public IUUnrolledLinkedList()
+    {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Constructor for an unrolled linked list with the given number of elements per block
+     *
+     * @param blockCapacity the maximum number of elements stored in one block
+     * @throws IllegalArgumentException if blockCapacity is less than 2
+     */
+    public IUUnrolledLinkedList(int blockCapacity)
+    {
+        if(blockCapacity < 2)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.blockCapacity = blockCapacity;
+        head = tail = null;
+        size = 0;
+        modCount = 0;
+    }
+
+    /*
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    @Override
+    public void addToFront(T element)
+    {
+        insertAt(head, 0, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    @Override
+    public void addToRear(T element)
+    {
+        insertAt(tail, tail == null ? 0 : tail.count, element);
+        modCount++;
+    }
+
+    /*
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    @Override
+    public void add(T element)
+    {
+        addToRear(element);
+    }
+
+    /*
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    @Override
+    public void addAfter(T element, T target)
+    {
+        for(Block block = head; block != null; block = block.next)
+        {
+            for(int i = 0; i < block.count; i++)
+            {
+                if(block.elements[i].equals(target))
+                {
+                    insertAt(block, i + 1, element);
+                    modCount++;
+                    return;
+                }
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    /*
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the array to which the element is to be inserted.
+     * @param element the element to be inserted into the array
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    @Override
+    public void add(int index, T element)
+    {
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(index == size)
+        {
+            addToRear(element);
+            return;
+        }
+        Block block = seek(index);
+        insertAt(block, index - seekStart, element);
+        modCount++;
+    }
+
+    /*
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeFirst()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = head.get(0);
+        removeAt(head, 0);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T removeLast()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        T retVal = tail.get(tail.count - 1);
+        removeAt(tail, tail.count - 1);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Removes and returns the first element from the list matching the specified element.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    @Override
+    public T remove(T element)
+    {
+        for(Block block = head; block != null; block = block.next)
+        {
+            for(int i = 0; i < block.count; i++)
+            {
+                if(block.elements[i].equals(element))
+                {
+                    T retVal = block.get(i);
+                    removeAt(block, i);
+                    modCount++;
+                    return retVal;
+                }
+            }
+        }
+        throw new NoSuchElementException();
+    }
+
+    /*
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T remove(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        Block block = seek(index);
+        int offset = index - seekStart;
+        T retVal = block.get(offset);
+        removeAt(block, offset);
+        modCount++;
+        return retVal;
+    }
+
+    /*
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public void set(int index, T element)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        Block block = seek(index);
+        block.elements[index - seekStart] = element;
+        modCount++;
+    }
+
+    /*
+     * Returns a reference to the element at the specified index.
+     *
+     * @param index  the index to which the reference is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    @Override
+    public T get(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        Block block = seek(index);
+        return block.get(index - seekStart);
+    }
+
+    /*
+     * Returns the index of the first element from the list matching the specified element.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    @Override
+    public int indexOf(T element)
+    {
+        int blockStart = 0;
+        for(Block block = head; block != null; block = block.next)
+        {
+            Object[] elements = block.elements;
+            for(int i = 0; i < block.count; i++)
+            {
+                if(elements[i].equals(element))
+                {
+                    return blockStart + i;
+                }
+            }
+            blockStart += block.count;
+        }
+        return -1;
+    }
+
+    /*
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T first()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return head.get(0);
+    }
+
+    /*
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    @Override
+    public T last()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return tail.get(tail.count - 1);
+    }
+
+    /*
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    @Override
+    public boolean contains(T target)
+    {
+        return indexOf(target) > -1;
+    }
+
+    /*
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /*
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /*
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        for(Block block = head; block != null; block = block.next)
+        {
+            for(int i = 0; i < block.count; i++)
+            {
+                string.append(block.elements[i]);
+                string.append(",");
+            }
+        }
+        if(size > 0)
+        {
+            string.setLength(string.length() - 1);
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /*
+     * Returns an Iterator for the elements in this list.
+     *
+     * @return an Iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new UnrolledListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new UnrolledListIterator(0);
+    }
+
+    /*
+     * Returns a ListIterator for the elements in this list, with
+     * the iterator positioned before the specified index.
+     *
+     * @return a ListIterator over the elements in this list
+     */
+    @Override
+    public ListIterator<T> listIterator(int startingIndex)
+    {
+        if(startingIndex < 0 || startingIndex > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return new UnrolledListIterator(startingIndex);
+    }
+
+    /**
+     * Returns the block holding the element at the given index, walking
+     * block counts from whichever end of the list is nearer.
+     * Leaves the index of that block's first element in seekStart.
+     *
+     * @param index the index being sought
+     * @return the block containing index
+     */
+    private Block seek(int index)
+    {
+        if(index < size / 2)
+        {
+            Block block = head;
+            int blockStart = 0;
+            while(index >= blockStart + block.count)
+            {
+                blockStart += block.count;
+                block = block.next;
+            }
+            seekStart = blockStart;
+            return block;
+        }
+        Block block = tail;
+        int blockStart = size - (block == null ? 0 : block.count);
+        while(index < blockStart)
+        {
+            block = block.prev;
+            blockStart -= block.count;
+        }
+        seekStart = blockStart;
+        return block;
+    }
+
+    /**
+     * Inserts element so that it ends up at the given offset of the given block,
+     * splitting the block first if it is full. Updates size but not modCount.
+     *
+     * @param block  the block to insert into, or null if the list is empty
+     * @param offset the offset within block, between 0 and block.count
+     * @param element the element to insert
+     * @return the block the element was stored in; insertedOffset holds its offset
+     */
+    private Block insertAt(Block block, int offset, T element)
+    {
+        if(block == null)
+        {
+            block = new Block(blockCapacity);
+            head = tail = block;
+            offset = 0;
+        } else if(block.count == blockCapacity)
+        {
+            if(offset == blockCapacity)
+            {
+                block = linkAfter(block, new Block(blockCapacity));
+                offset = 0;
+            } else if(offset == 0 && block.prev != null && block.prev.count < blockCapacity)
+            {
+                block = block.prev;
+                offset = block.count;
+            } else
+            {
+                Block upper = split(block);
+                if(offset > block.count)
+                {
+                    offset -= block.count;
+                    block = upper;
+                }
+            }
+        }
+        System.arraycopy(block.elements, offset, block.elements, offset + 1, block.count - offset);
+        block.elements[offset] = element;
+        block.count++;
+        size++;
+        insertedOffset = offset;
+        return block;
+    }
+
+    /**
+     * Removes the element at the given offset of the given block, dropping the
+     * block when it empties and merging it with its successor when both are
+     * sparse. Updates size but not modCount.
+     *
+     * @param block  the block holding the element
+     * @param offset the offset of the element within block
+     * @return the block now holding the element that followed the removed one,
+     *         or null if the list is now empty; followingOffset holds its offset
+     */
+    private Block removeAt(Block block, int offset)
+    {
+        block.count--;
+        System.arraycopy(block.elements, offset + 1, block.elements, offset, block.count - offset);
+        block.elements[block.count] = null;
+        size--;
+        if(block.count == 0)
+        {
+            Block following = block.next != null ? block.next : block.prev;
+            followingOffset = block.next != null ? 0 : (following == null ? 0 : following.count);
+            unlink(block);
+            return following;
+        }
+        Block next = block.next;
+        if(next != null && block.count + next.count <= blockCapacity / 2)
+        {
+            System.arraycopy(next.elements, 0, block.elements, block.count, next.count);
+            block.count += next.count;
+            unlink(next);
+        }
+        followingOffset = offset;
+        if(offset == block.count && block.next != null)
+        {
+            followingOffset = 0;
+            return block.next;
+        }
+        return block;
+    }
+
+    /**
+     * Moves the upper half of a full block into a new block linked after it.
+     *
+     * @param block the block to split
+     * @return the new block holding the upper half
+     */
+    private Block split(Block block)
+    {
+        Block upper = linkAfter(block, new Block(blockCapacity));
+        int keep = block.count / 2;
+        upper.count = block.count - keep;
+        System.arraycopy(block.elements, keep, upper.elements, 0, upper.count);
+        for(int i = keep; i < block.count; i++)
+        {
+            block.elements[i] = null;
+        }
+        block.count = keep;
+        return upper;
+    }
+
+    /**
+     * Links newBlock into the block chain after block.
+     *
+     * @param block    the block to link after
+     * @param newBlock the block to link
+     * @return newBlock
+     */
+    private Block linkAfter(Block block, Block newBlock)
+    {
+        newBlock.prev = block;
+        newBlock.next = block.next;
+        if(block.next != null)
+        {
+            block.next.prev = newBlock;
+        } else
+        {
+            tail = newBlock;
+        }
+        block.next = newBlock;
+        return newBlock;
+    }
+
+    /**
+     * Unlinks block from the block chain.
+     *
+     * @param block the block to unlink
+     */
+    private void unlink(Block block)
+    {
+        if(block.prev != null)
+        {
+            block.prev.next = block.next;
+        } else
+        {
+            head = block.next;
+        }
+        if(block.next != null)
+        {
+            block.next.prev = block.prev;
+        } else
+        {
+            tail = block.prev;
+        }
+        block.prev = block.next = null;
+    }
+
+    /**
+     * A link in the block chain holding up to blockCapacity elements in order.
+     */
+    private class Block
+    {
+        private final Object[] elements;
+        private int count;
+        private Block prev;
+        private Block next;
+
+        public Block(int capacity)
+        {
+            elements = new Object[capacity];
+            count = 0;
+            prev = next = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(int offset)
+        {
+            return (T) elements[offset];
+        }
+    }
+
+    private class UnrolledListIterator implements ListIterator<T>
+    {
+        //variables
+        private Block nextBlock;
+        private int nextOffset;
+        private int nextIndex;
+        private int iterModCount;
+        private boolean canChange;
+        private Block lastBlock;
+        private int lastOffset;
+
+        //constructor
+        public UnrolledListIterator(int index)
+        {
+            nextBlock = index < size ? seek(index) : tail;
+            nextOffset = index < size ? index - seekStart : (tail == null ? 0 : tail.count);
+            nextIndex = index;
+            this.iterModCount = modCount;
+            canChange = false;
+            lastBlock = null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if(nextOffset == nextBlock.count)
+            {
+                nextBlock = nextBlock.next;
+                nextOffset = 0;
+            }
+            lastBlock = nextBlock;
+            lastOffset = nextOffset;
+            nextOffset++;
+            nextIndex++;
+            canChange = true;
+            return lastBlock.get(lastOffset);
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous()
+        {
+            if(!hasPrevious())
+            {
+                throw new NoSuchElementException();
+            }
+            if(nextOffset == 0)
+            {
+                nextBlock = nextBlock.prev;
+                nextOffset = nextBlock.count;
+            }
+            nextOffset--;
+            nextIndex--;
+            lastBlock = nextBlock;
+            lastOffset = nextOffset;
+            canChange = true;
+            return lastBlock.get(lastOffset);
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastBlock == null)
+            {
+                throw new IllegalStateException();
+            }
+            if(lastBlock != nextBlock || lastOffset != nextOffset)
+            {
+                nextIndex--;
+            }
+            nextBlock = removeAt(lastBlock, lastOffset);
+            nextOffset = followingOffset;
+            modCount++;
+            iterModCount++;
+            lastBlock = null;
+            canChange = false;
+        }
+
+        @Override
+        public void set(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(!canChange || lastBlock == null)
+            {
+                throw new IllegalStateException();
+            }
+            lastBlock.elements[lastOffset] = e;
+            modCount++;
+            iterModCount++;
+            canChange = false;
+        }
+
+        @Override
+        public void add(T e)
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            nextBlock = insertAt(nextBlock, nextOffset, e);
+            nextOffset = insertedOffset + 1;
+            nextIndex++;
+            modCount++;
+            iterModCount++;
+            lastBlock = null;
+            canChange = false;
+        }
+    }
+}
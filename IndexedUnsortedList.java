@@ -1,4 +1,7 @@
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *  Interface for an Iterable, Indexed, Unsorted List ADT.
@@ -55,6 +58,78 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      */
     public void add(int index, T element);
 
+    /**  
+     * Adds every element of the given source to the rear of this list, in order. 
+     * A list may be added to itself. 
+     *
+     * @param elements the elements to be added to the rear of this list
+     */
+    public default void addAll(Iterable<? extends T> elements)
+    {
+        if(elements == this)
+        {
+            ArrayList<T> copy = new ArrayList<T>(size());
+            for(T element : this)
+            {
+                copy.add(element);
+            }
+            elements = copy;
+        }
+        for(T element : elements)
+        {
+            addToRear(element);
+        }
+    }
+
+    /**  
+     * Inserts every element of the given source at the specified index, in order, 
+     * so that the first of them ends up at index. A list may be added to itself. 
+     * 
+     * @param index    the index at which the first element is to be inserted
+     * @param elements the elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public default void addAll(int index, Iterable<? extends T> elements)
+    {
+        if(index < 0 || index > size())
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(elements == this)
+        {
+            ArrayList<T> copy = new ArrayList<T>(size());
+            for(T element : this)
+            {
+                copy.add(element);
+            }
+            elements = copy;
+        }
+        for(T element : elements)
+        {
+            add(index++, element);
+        }
+    }
+
+    /**  
+     * Adds len elements of src, starting at src[off], to the rear of this list, in order. 
+     *
+     * @param src the array holding the elements to be added
+     * @param off the index in src of the first element to add
+     * @param len the number of elements to add
+     * @throws IndexOutOfBoundsException if off < 0, len < 0 or off + len > src.length
+     */
+    public default void addBatch(T[] src, int off, int len)
+    {
+        if(off < 0 || len < 0 || len > src.length - off)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        for(int i = off; i < off + len; i++)
+        {
+            addToRear(src[i]);
+        }
+    }
+
     /**  
      * Removes and returns the first element from this list. 
      * 
@@ -87,8 +162,108 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      * @return the element at the given index
      * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
      */
-    public T remove(int index); 
-        
+    public T remove(int index);
+
+    /**
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive.
+     *
+     * @param fromIndex the index of the first element to remove
+     * @param toIndex   the index after the last element to remove
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     */
+    public default void removeRange(int fromIndex, int toIndex)
+    {
+        if(fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        Iterator<T> itr = iterator();
+        for(int i = 0; i < fromIndex; i++)
+        {
+            itr.next();
+        }
+        for(int i = fromIndex; i < toIndex; i++)
+        {
+            itr.next();
+            itr.remove();
+        }
+    }
+
+    /**
+     * Removes every element from this list.
+     */
+    public default void clear()
+    {
+        removeRange(0, size());
+    }
+
+    /**
+     * Removes every element of this list that satisfies the given predicate. 
+     *
+     * @param filter returns true for elements to be removed
+     * @return true if any element was removed
+     */
+    public default boolean removeIf(Predicate<? super T> filter)
+    {
+        boolean removed = false;
+        Iterator<T> itr = iterator();
+        while(itr.hasNext())
+        {
+            if(filter.test(itr.next()))
+            {
+                itr.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**  
+     * Removes every element of this list that is equal to some element of the given source. 
+     * The source is matched through a hash set, so each element is checked in O(1) expected time. 
+     *
+     * @param elements the elements to be removed
+     * @return true if any element was removed
+     */
+    public default boolean removeAll(Iterable<?> elements)
+    {
+        Set<?> targets = toSet(elements);
+        return removeIf(element -> targets.contains(element));
+    }
+
+    /**  
+     * Removes every element of this list that is not equal to any element of the given source. 
+     * The source is matched through a hash set, so each element is checked in O(1) expected time. 
+     *
+     * @param elements the elements to be kept
+     * @return true if any element was removed
+     */
+    public default boolean retainAll(Iterable<?> elements)
+    {
+        Set<?> targets = toSet(elements);
+        return removeIf(element -> !targets.contains(element));
+    }
+
+    /**  
+     * Returns the given source as a hash-based set, copying it unless it already is one. 
+     *
+     * @param elements the source to look elements up in
+     * @return a set holding the same elements
+     */
+    private static Set<?> toSet(Iterable<?> elements)
+    {
+        if(elements instanceof HashSet)
+        {
+            return (Set<?>) elements;
+        }
+        HashSet<Object> set = new HashSet<Object>();
+        for(Object element : elements)
+        {
+            set.add(element);
+        }
+        return set;
+    }
+
     /**  
      * Replace the element at the specified index with the given element. 
      *
@@ -160,6 +335,21 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      */
     public String toString();
 
+    /**  
+     * Returns a view of the elements from fromIndex, inclusive, to toIndex, exclusive. 
+     * Changes made through the view write through to this list. 
+     *
+     * @param fromIndex the index of the first element in the view
+     * @param toIndex   the index after the last element in the view
+     * @return a view of the given range of this list
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+     * @throws UnsupportedOperationException if not implemented
+     */
+    public default IndexedUnsortedList<T> subList(int fromIndex, int toIndex)
+    {
+        throw new UnsupportedOperationException();
+    }
+
     /**  
      * Returns an Iterator for the elements in this list. 
      *
@@ -185,4 +375,76 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      * @throws UnsupportedOperationException if not implemented
      */
     public ListIterator<T> listIterator(int startingIndex);
+
+    /**  
+     * Returns a BatchCursor that hands out the elements of this list, in order, 
+     * a batch at a time. Like an iterator, it fails fast if the list is changed 
+     * other than through the cursor. 
+     *
+     * @return a BatchCursor over the elements in this list
+     */
+    public default BatchCursor<T> batchCursor()
+    {
+        Iterator<T> itr = iterator();
+        return buffer ->
+        {
+            int count = 0;
+            while(count < buffer.length && itr.hasNext())
+            {
+                buffer[count++] = itr.next();
+            }
+            return count;
+        };
+    }
+
+    /**  
+     * Returns a Spliterator over the elements in this list. It reports SIZED 
+     * and ORDERED, so streams know the list's length up front. 
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public default Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**  
+     * Returns a sequential Stream over the elements in this list. 
+     *
+     * @return a Stream over the elements in this list
+     */
+    public default Stream<T> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**  
+     * Returns a parallel Stream over the elements in this list. 
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    public default Stream<T> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * A cursor over a list that copies elements out into a caller-supplied 
+     * array, so a consumer can work a batch at a time without allocating. 
+     *
+     * @param <T> - class of objects stored in the list 
+     */
+    public interface BatchCursor<T>
+    {
+        /**  
+         * Copies the next elements, up to buffer.length of them, into buffer 
+         * starting at index 0. 
+         *
+         * @param buffer the array to fill
+         * @return the number of elements copied, 0 once the cursor is exhausted
+         * @throws ConcurrentModificationException if the list has changed since the cursor was created
+         */
+        public int nextBatch(T[] buffer);
+    }
 }
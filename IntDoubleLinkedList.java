@@ -0,0 +1,606 @@
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Double linked list of unboxed int values.
+ * Covers only the core IndexedUnsortedList operations, plus batchCursor
+ * and addBatch, without boxing elements or calling equals(), so each
+ * element costs one node and no wrapper object. IUDoubleLinkedList's
+ * extensions, such as reverse, sort, concat, splitAt and handles, are not
+ * carried over.
+ *
+ * The template is written separately from IUDoubleLinkedList, not derived
+ * from it, so only ListTester keeps the two behaving alike. What cannot
+ * drift is the int, long and double lists from each other. Where the API
+ * differs it is on purpose: remove(int) would clash with remove(int) for
+ * int, so removal by value is removeElement, and iterator() returns a
+ * PrimitiveIterator that supports remove but there is no listIterator.
+ *
+ * Generated from PrimitiveDoubleLinkedList.template by generatePrimitiveLists.sh.
+ * Edit the template and regenerate rather than changing this file;
+ * generatePrimitiveLists.sh --check and ListTester fail if this file is stale.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class IntDoubleLinkedList implements Iterable<Integer>
+{
+    private IntNode head;
+    private IntNode tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * Default constructor for a int double linked list
+     */
+    public IntDoubleLinkedList()
+    {
+        head = tail = null;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Adds the specified element to the front of this list.
+     *
+     * @param element the element to be added to the front of this list
+     */
+    public void addToFront(int element)
+    {
+        IntNode newNode = new IntNode(element);
+        newNode.next = head;
+        if(head != null)
+        {
+            head.prev = newNode;
+        } else
+        {
+            tail = newNode;
+        }
+        head = newNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element the element to be added to the rear of this list
+     */
+    public void addToRear(int element)
+    {
+        IntNode newNode = new IntNode(element);
+        newNode.prev = tail;
+        if(tail != null)
+        {
+            tail.next = newNode;
+        } else
+        {
+            head = newNode;
+        }
+        tail = newNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds the specified element to the rear of this list.
+     *
+     * @param element  the element to be added to the rear of the list
+     */
+    public void add(int element)
+    {
+        addToRear(element);
+    }
+
+    /**
+     * Adds the specified element after the first element of the list matching the specified target.
+     *
+     * @param element the element to be added after the target
+     * @param target  the target is the item that the element will be added after
+     * @throws NoSuchElementException if target element is not in this list
+     */
+    public void addAfter(int element, int target)
+    {
+        IntNode prevNode = findNode(target);
+        if(prevNode == null)
+        {
+            throw new NoSuchElementException();
+        }
+        linkBefore(prevNode.next, element);
+    }
+
+    /**
+     * Inserts the specified element at the specified index.
+     *
+     * @param index   the index into the list at which the element is to be inserted.
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+     */
+    public void add(int index, int element)
+    {
+        if(index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        linkBefore(index == size ? null : nodeAt(index), element);
+    }
+
+    /**
+     * Adds len elements of src, starting at src[off], to the rear of this list, in order.
+     * The new nodes are built as a detached chain and linked on with one modCount bump.
+     *
+     * @param src the array holding the elements to be added
+     * @param off the index in src of the first element to add
+     * @param len the number of elements to add
+     * @throws IndexOutOfBoundsException if off < 0, len < 0 or off + len > src.length
+     */
+    public void addBatch(int[] src, int off, int len)
+    {
+        if(off < 0 || len < 0 || len > src.length - off)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        if(len == 0)
+        {
+            return;
+        }
+        IntNode first = new IntNode(src[off]);
+        IntNode last = first;
+        for(int i = off + 1; i < off + len; i++)
+        {
+            IntNode newNode = new IntNode(src[i]);
+            last.next = newNode;
+            newNode.prev = last;
+            last = newNode;
+        }
+        first.prev = tail;
+        if(tail == null)
+        {
+            head = first;
+        } else
+        {
+            tail.next = first;
+        }
+        tail = last;
+        size += len;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int removeFirst()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int removeLast()
+    {
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    /**
+     * Removes and returns the first element from the list matching the specified element.
+     * Named apart from remove(int) so that an int element is never taken for an index.
+     *
+     * @param element the element to be removed from the list
+     * @return removed element
+     * @throws NoSuchElementException if element is not in this list
+     */
+    public int removeElement(int element)
+    {
+        IntNode currentNode = findNode(element);
+        if(currentNode == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return unlink(currentNode);
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * @param index the index of the element to be retrieved
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public int remove(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(nodeAt(index));
+    }
+
+    /**
+     * Replace the element at the specified index with the given element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the replacement element to be set into the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public void set(int index, int element)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).element = element;
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index  the index to which the element is to be retrieved from
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     */
+    public int get(int index)
+    {
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).element;
+    }
+
+    /**
+     * Returns the index of the first element from the list matching the specified element.
+     * Elements match when Integer.compare() finds them equal.
+     *
+     * @param element  the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the list
+     */
+    public int indexOf(int element)
+    {
+        int currentIndex = 0;
+        for(IntNode currentNode = head; currentNode != null; currentNode = currentNode.next)
+        {
+            if(Integer.compare(currentNode.element, element) == 0)
+            {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first element in this list.
+     *
+     * @return the first element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int first()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return head.element;
+    }
+
+    /**
+     * Returns the last element in this list.
+     *
+     * @return the last element in this list
+     * @throws NoSuchElementException if list contains no elements
+     */
+    public int last()
+    {
+        if(isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    /**
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element, else false
+     */
+    public boolean contains(int target)
+    {
+        return findNode(target) != null;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        for(IntNode currentNode = head; currentNode != null; currentNode = currentNode.next)
+        {
+            string.append(currentNode.element);
+            if(currentNode.next != null)
+            {
+                string.append(",");
+            }
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    /**
+     * Returns an unboxed iterator for the elements in this list.
+     *
+     * @return a PrimitiveIterator over the elements in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator()
+    {
+        return new IntListIterator();
+    }
+
+    /**
+     * Returns a cursor that copies the elements of this list, in order, into
+     * a caller-supplied array a batch at a time, without boxing them.
+     *
+     * @return a BatchCursor over the elements in this list
+     */
+    public BatchCursor batchCursor()
+    {
+        return new BatchCursor();
+    }
+
+    /**
+     * Returns the first node holding an element equal to target.
+     *
+     * @param target the element being sought
+     * @return the first matching node, or null if target is not in the list
+     */
+    private IntNode findNode(int target)
+    {
+        IntNode currentNode = head;
+        while(currentNode != null && Integer.compare(currentNode.element, target) != 0)
+        {
+            currentNode = currentNode.next;
+        }
+        return currentNode;
+    }
+
+    /**
+     * Returns the node at the given index, walking from whichever end is nearer.
+     *
+     * @param index an index between 0 and size - 1
+     * @return the node at index
+     */
+    private IntNode nodeAt(int index)
+    {
+        IntNode currentNode;
+        if(index < size / 2)
+        {
+            currentNode = head;
+            for(int i = 0; i < index; i++)
+            {
+                currentNode = currentNode.next;
+            }
+        } else
+        {
+            currentNode = tail;
+            for(int i = size - 1; i > index; i--)
+            {
+                currentNode = currentNode.prev;
+            }
+        }
+        return currentNode;
+    }
+
+    /**
+     * Links a new node holding element before nextNode, or at the rear if nextNode is null.
+     *
+     * @param nextNode the node that will follow the new one, or null
+     * @param element  the element to store
+     */
+    private void linkBefore(IntNode nextNode, int element)
+    {
+        IntNode newNode = new IntNode(element);
+        IntNode prevNode = nextNode == null ? tail : nextNode.prev;
+        newNode.prev = prevNode;
+        newNode.next = nextNode;
+        if(prevNode == null)
+        {
+            head = newNode;
+        } else
+        {
+            prevNode.next = newNode;
+        }
+        if(nextNode == null)
+        {
+            tail = newNode;
+        } else
+        {
+            nextNode.prev = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Unlinks a node from the list.
+     *
+     * @param node the node to unlink
+     * @return the element the node held
+     */
+    private int unlink(IntNode node)
+    {
+        if(node.prev == null)
+        {
+            head = node.next;
+        } else
+        {
+            node.prev.next = node.next;
+        }
+        if(node.next == null)
+        {
+            tail = node.prev;
+        } else
+        {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+        size--;
+        modCount++;
+        return node.element;
+    }
+
+    /**
+     * A list node holding one unboxed element.
+     */
+    private static class IntNode
+    {
+        private int element;
+        private IntNode prev;
+        private IntNode next;
+
+        public IntNode(int element)
+        {
+            this.element = element;
+        }
+    }
+
+    /**
+     * A cursor over the list that copies elements out into a caller-supplied
+     * array. It checks for concurrent modification once per batch.
+     */
+    public class BatchCursor
+    {
+        //variables
+        private IntNode nextNode;
+        private int remaining;
+        private final int expectedModCount;
+
+        //constructor
+        private BatchCursor()
+        {
+            nextNode = head;
+            remaining = size;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Copies the next elements, up to buffer.length of them, into buffer
+         * starting at index 0.
+         *
+         * @param buffer the array to fill
+         * @return the number of elements copied, 0 once the cursor is exhausted
+         * @throws ConcurrentModificationException if the list has changed since the cursor was created
+         */
+        public int nextBatch(int[] buffer)
+        {
+            if(expectedModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            int count = Math.min(buffer.length, remaining);
+            IntNode currentNode = nextNode;
+            for(int i = 0; i < count; i++)
+            {
+                buffer[i] = currentNode.element;
+                currentNode = currentNode.next;
+            }
+            nextNode = currentNode;
+            remaining -= count;
+            return count;
+        }
+    }
+
+    private class IntListIterator implements PrimitiveIterator.OfInt
+    {
+        //variables
+        private IntNode nextNode;
+        private int iterModCount;
+        private IntNode lastReturned;
+
+        //constructor
+        public IntListIterator()
+        {
+            nextNode = head;
+            this.iterModCount = modCount;
+            lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            unlink(lastReturned);
+            iterModCount++;
+            lastReturned = null;
+        }
+    }
+}
@@ -0,0 +1,494 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A simple timing harness for lists that implement IndexedUnsortedList.
+ * Each benchmark warms up, then reports the average cost of an operation
+ * for a range of list sizes so that crossovers between implementations show.
+ *
+ * NOTE: These are wall-clock measurements from a single JVM run. Use them
+ * to compare implementations against each other, not as absolute numbers.
+ *
+ * @author ccorolewski
+ */
+public class ListBenchmark {
+	// list sizes benchmarked by the scaling benchmarks
+	private static final int[] SIZES = {10, 100, 1_000, 10_000, 100_000, 1_000_000};
+	// operations timed per size
+	private static final int OPERATIONS = 2_000;
+	// rounds run before timing to let the JIT settle
+	private static final int WARMUP_ROUNDS = 3;
+	// queue length and operations for the add/remove churn benchmark
+	private static final int CHURN_QUEUE_LENGTH = 1_000;
+	private static final int CHURN_OPERATIONS = 1_000_000;
+	// thread counts and run time for the multi-threaded benchmark
+	private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+	private static final long CONCURRENT_MILLIS = 500;
+	// list size and writer pause for the read-mostly benchmark
+	private static final int READERS_LIST_SIZE = 100;
+	private static final long WRITER_PAUSE_MILLIS = 1;
+	// queue lengths for the single vs double linked queue comparison
+	private static final int[] QUEUE_LENGTHS = {1_000, 100_000};
+	// list sizes for the sort benchmark
+	private static final int[] SORT_SIZES = {10_000, 100_000, 1_000_000};
+	// list size for the full-scan iteration benchmark
+	private static final int SCAN_SIZE = 10_000_000;
+
+	/**
+	 * Valid command line args include:
+	 *  positional : random-index get/set/add/remove (default)
+	 *  churn      : addToRear/removeFirst queue churn, bytes allocated per operation
+	 *  concurrent : producer/consumer throughput from 1 to 64 threads
+	 *  readers    : first/last/get/contains throughput from 1 to 64 reader threads with one rare writer
+	 *  queue      : single vs double linked FIFO queue, bytes per element and ns per operation
+	 *  sort       : in-place merge sort and parallel sort vs Collections.sort on a LinkedList
+	 *  scan       : for-each loop vs forEach vs forEachRemaining over a 10M element list
+	 *  search     : indexOf/contains vs their fork-join parallel versions over a 10M element list
+	 * @param args names of benchmarks to run
+	 */
+	public static void main(String[] args) {
+		ListBenchmark benchmark = new ListBenchmark();
+		if (args.length == 0) {
+			args = new String[] {"positional"};
+		}
+		for (String arg : args) {
+			if (arg.equalsIgnoreCase("positional"))
+				benchmark.benchmarkPositional();
+			if (arg.equalsIgnoreCase("churn"))
+				benchmark.benchmarkChurn();
+			if (arg.equalsIgnoreCase("concurrent"))
+				benchmark.benchmarkConcurrent();
+			if (arg.equalsIgnoreCase("readers"))
+				benchmark.benchmarkReaders();
+			if (arg.equalsIgnoreCase("queue"))
+				benchmark.benchmarkQueue();
+			if (arg.equalsIgnoreCase("sort"))
+				benchmark.benchmarkSort();
+			if (arg.equalsIgnoreCase("scan"))
+				benchmark.benchmarkScan();
+			if (arg.equalsIgnoreCase("search"))
+				benchmark.benchmarkSearch();
+		}
+	}
+
+	/////////////////////
+	// XXX BENCHMARKS
+	/////////////////////
+
+	/** Time random-index access and updates against the plain, skip and tree lists. */
+	private void benchmarkPositional() {
+		printHeader("Positional get/set/add(int)/remove(int), ns per operation", "size");
+		for (int size : SIZES) {
+			timePositional("IUDoubleLinkedList", size, () -> new IUDoubleLinkedList<Integer>());
+			timePositional("IUSkipList", size, () -> new IUSkipList<Integer>());
+			timePositional("IUTreeList", size, () -> new IUTreeList<Integer>());
+		}
+	}
+
+	/** Fill a list to size, then time a random mix of positional operations on it.
+	 * @param name name of the implementation
+	 * @param size number of elements in the list
+	 * @param supplier creates an empty list
+	 */
+	private void timePositional(String name, int size, Supplier<IndexedUnsortedList<Integer>> supplier) {
+		IndexedUnsortedList<Integer> list = filledList(supplier, size);
+		Random random = new Random(size);
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < OPERATIONS; i++) {
+				int index = random.nextInt(list.size());
+				switch (i % 4) {
+				case 0: list.get(index); break;
+				case 1: list.set(index, i); break;
+				case 2: list.add(index, i); break;
+				default: list.remove(index); break;
+				}
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / (double) OPERATIONS);
+	}
+
+	/** Measure heap allocation per addToRear/removeFirst pair with and without node recycling. */
+	private void benchmarkChurn() {
+		printHeader("Queue churn addToRear + removeFirst, bytes allocated per operation pair", "size");
+		timeChurn("IUDoubleLinkedList", () -> new IUDoubleLinkedList<Integer>());
+		timeChurn("IUDoubleLinkedList recycling", () -> new IUDoubleLinkedList<Integer>(false, 64));
+	}
+
+	/** Keep a queue at a steady length while pushing elements through it, and report
+	 * the bytes the thread allocated per operation pair once warmed up.
+	 * @param name name of the implementation
+	 * @param supplier creates an empty list
+	 */
+	private void timeChurn(String name, Supplier<IndexedUnsortedList<Integer>> supplier) {
+		IndexedUnsortedList<Integer> list = filledList(supplier, CHURN_QUEUE_LENGTH);
+		Integer element = Integer.valueOf(CHURN_QUEUE_LENGTH); // one boxed value, so only list allocations count
+		long bytes = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = allocatedBytes();
+			for (int i = 0; i < CHURN_OPERATIONS; i++) {
+				list.addToRear(element);
+				list.removeFirst();
+			}
+			bytes = allocatedBytes() - start;
+		}
+		printResult(name, CHURN_QUEUE_LENGTH, bytes / (double) CHURN_OPERATIONS);
+	}
+
+	/** Compare producer/consumer throughput of a synchronized list against the lock-free deque. */
+	private void benchmarkConcurrent() {
+		printHeader("Producer/consumer addToRear + removeFirst, million operations per second", "threads");
+		for (int threads : THREAD_COUNTS) {
+			timeConcurrent("synchronized IUDoubleLinkedList", threads, new IUDoubleLinkedList<Integer>(), true);
+			timeConcurrent("IUConcurrentDeque", threads, new IUConcurrentDeque<Integer>(), false);
+		}
+	}
+
+	/** Run half the threads as producers calling addToRear and half as consumers
+	 * calling removeFirst for a fixed time, and report the combined throughput.
+	 * @param name name of the implementation
+	 * @param threads number of threads, at least one
+	 * @param list the list shared by every thread
+	 * @param lock true to synchronize each call on the list, as callers of a non-thread-safe list must
+	 */
+	private void timeConcurrent(String name, int threads, IndexedUnsortedList<Integer> list, boolean lock) {
+		Integer element = Integer.valueOf(threads);
+		AtomicBoolean running = new AtomicBoolean(true);
+		CountDownLatch done = new CountDownLatch(threads);
+		LongAdder operations = new LongAdder();
+		for (int t = 0; t < threads; t++) {
+			boolean producer = t % 2 == 0;
+			Thread worker = new Thread(() -> {
+				long count = 0;
+				while (running.get()) {
+					try {
+						if (lock) {
+							synchronized (list) {
+								if (producer) list.addToRear(element); else list.removeFirst();
+							}
+						} else {
+							if (producer) list.addToRear(element); else list.removeFirst();
+						}
+						count++;
+					} catch (NoSuchElementException e) {
+						// consumer found the list empty; try again
+					}
+				}
+				operations.add(count);
+				done.countDown();
+			});
+			worker.start();
+		}
+		try {
+			Thread.sleep(CONCURRENT_MILLIS);
+			running.set(false);
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		printResult(name, threads, operations.sum() / (CONCURRENT_MILLIS * 1_000.0));
+	}
+
+	/** Compare read-mostly throughput of a synchronized list against the StampedLock wrapper. */
+	private void benchmarkReaders() {
+		printHeader("Readers first/last/get/contains with one rare writer, million reads per second", "threads");
+		for (int threads : THREAD_COUNTS) {
+			timeReaders("synchronized IUDoubleLinkedList", threads,
+					filledList(() -> new IUDoubleLinkedList<Integer>(), READERS_LIST_SIZE), true);
+			timeReaders("IUStampedLockList", threads,
+					filledList(() -> new IUStampedLockList<Integer>(new IUDoubleLinkedList<Integer>()), READERS_LIST_SIZE), false);
+		}
+	}
+
+	/** Run reader threads cycling through first, last, get near either end and contains
+	 * for a fixed time while one writer replaces the rear element every millisecond,
+	 * and report the readers' combined throughput.
+	 * @param name name of the implementation
+	 * @param threads number of reader threads, at least one
+	 * @param list the list shared by every thread
+	 * @param lock true to synchronize each call on the list, as callers of a non-thread-safe list must
+	 */
+	private void timeReaders(String name, int threads, IndexedUnsortedList<Integer> list, boolean lock) {
+		Integer target = Integer.valueOf(READERS_LIST_SIZE / 2);
+		AtomicBoolean running = new AtomicBoolean(true);
+		CountDownLatch done = new CountDownLatch(threads + 1);
+		LongAdder operations = new LongAdder();
+		for (int t = 0; t < threads; t++) {
+			Thread reader = new Thread(() -> {
+				long count = 0;
+				while (running.get()) {
+					if (lock) {
+						synchronized (list) {
+							read(list, count, target);
+						}
+					} else {
+						read(list, count, target);
+					}
+					count++;
+				}
+				operations.add(count);
+				done.countDown();
+			});
+			reader.start();
+		}
+		Thread writer = new Thread(() -> {
+			try {
+				while (running.get()) {
+					if (lock) {
+						synchronized (list) {
+							list.addToRear(list.removeLast());
+						}
+					} else {
+						list.addToRear(list.removeLast());
+					}
+					Thread.sleep(WRITER_PAUSE_MILLIS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			done.countDown();
+		});
+		writer.start();
+		try {
+			Thread.sleep(CONCURRENT_MILLIS);
+			running.set(false);
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		printResult(name, threads, operations.sum() / (CONCURRENT_MILLIS * 1_000.0));
+	}
+
+	/** One read for the read-mostly benchmark, chosen by the reader's operation count.
+	 * @param list the list to read
+	 * @param count the number of reads this thread has done so far
+	 * @param target an element in the middle of the list, for contains
+	 */
+	private void read(IndexedUnsortedList<Integer> list, long count, Integer target) {
+		switch ((int) (count % 4)) {
+		case 0: list.first(); break;
+		case 1: list.last(); break;
+		case 2: list.get(count % 8 < 4 ? 1 : list.size() - 2); break;
+		default: list.contains(target); break;
+		}
+	}
+
+	/** Compare the single linked list against the double linked list used as a FIFO queue. */
+	private void benchmarkQueue() {
+		printHeader("FIFO queue fill, bytes allocated per element", "size");
+		for (int length : QUEUE_LENGTHS) {
+			timeQueueMemory("IUSingleLinkedList", length, () -> new IUSingleLinkedList<Integer>());
+			timeQueueMemory("IUDoubleLinkedList", length, () -> new IUDoubleLinkedList<Integer>());
+		}
+		printHeader("FIFO queue addToRear + removeFirst, ns per operation pair", "size");
+		for (int length : QUEUE_LENGTHS) {
+			timeQueueThroughput("IUSingleLinkedList", length, () -> new IUSingleLinkedList<Integer>());
+			timeQueueThroughput("IUDoubleLinkedList", length, () -> new IUDoubleLinkedList<Integer>());
+		}
+	}
+
+	/** Report the bytes the thread allocated per element while filling an empty queue.
+	 * @param name name of the implementation
+	 * @param length number of elements to add
+	 * @param supplier creates an empty list
+	 */
+	private void timeQueueMemory(String name, int length, Supplier<IndexedUnsortedList<Integer>> supplier) {
+		Integer element = Integer.valueOf(length); // one boxed value, so only list allocations count
+		long bytes = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = allocatedBytes();
+			IndexedUnsortedList<Integer> list = supplier.get();
+			for (int i = 0; i < length; i++) {
+				list.addToRear(element);
+			}
+			bytes = allocatedBytes() - start;
+		}
+		printResult(name, length, bytes / (double) length);
+	}
+
+	/** Keep a queue at a steady length while pushing elements through it and report the time per operation pair.
+	 * @param name name of the implementation
+	 * @param length number of elements kept in the queue
+	 * @param supplier creates an empty list
+	 */
+	private void timeQueueThroughput(String name, int length, Supplier<IndexedUnsortedList<Integer>> supplier) {
+		IndexedUnsortedList<Integer> list = filledList(supplier, length);
+		Integer element = Integer.valueOf(length);
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < CHURN_OPERATIONS; i++) {
+				list.addToRear(element);
+				list.removeFirst();
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, length, nanos / (double) CHURN_OPERATIONS);
+	}
+
+	/** Compare sorting a double linked list in place against Collections.sort on a java.util.LinkedList. */
+	private void benchmarkSort() {
+		printHeader("Sort shuffled Integers, ms per sort", "size");
+		for (int size : SORT_SIZES) {
+			timeSort("IUDoubleLinkedList.sort", size, values -> {
+				IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+				list.addAll(values);
+				return () -> list.sort(null);
+			});
+			timeSort("IUDoubleLinkedList.parallelSort", size, values -> {
+				IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+				list.addAll(values);
+				return () -> list.parallelSort(null);
+			});
+			timeSort("Collections.sort(LinkedList)", size, values -> {
+				LinkedList<Integer> list = new LinkedList<Integer>(values);
+				return () -> Collections.sort(list);
+			});
+		}
+	}
+
+	/** Build a fresh shuffled list each round and time one sort of it.
+	 * @param name name of the implementation
+	 * @param size number of elements to sort
+	 * @param setup builds a list from the shuffled values and returns the sort to time
+	 */
+	private void timeSort(String name, int size, Function<List<Integer>, Runnable> setup) {
+		List<Integer> values = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(i);
+		}
+		Random random = new Random(size);
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			Collections.shuffle(values, random);
+			Runnable sort = setup.apply(values);
+			long start = System.nanoTime();
+			sort.run();
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / 1_000_000.0);
+	}
+
+	/** Time one full pass over a large list with external and internal iteration. */
+	private void benchmarkScan() {
+		printHeader("Full scan summing Integers, ms per scan", "size");
+		IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+		for (int i = 0; i < SCAN_SIZE; i++) {
+			list.addToRear(i);
+		}
+		timeScan("for-each loop", list, sum -> {
+			for (Integer element : list) {
+				sum[0] += element;
+			}
+		});
+		timeScan("forEach", list, sum -> list.forEach(element -> sum[0] += element));
+		timeScan("iterator().forEachRemaining", list, sum -> list.iterator().forEachRemaining(element -> sum[0] += element));
+	}
+
+	/** Time one scan of the list, after warming it up, and check that it saw every element.
+	 * @param name name of the iteration style
+	 * @param list the list being scanned
+	 * @param scan adds every element of the list into sum[0]
+	 */
+	private void timeScan(String name, IndexedUnsortedList<Integer> list, Consumer<long[]> scan) {
+		long expected = (long) list.size() * (list.size() - 1) / 2;
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long[] sum = new long[1];
+			long start = System.nanoTime();
+			scan.accept(sum);
+			nanos = System.nanoTime() - start;
+			if (sum[0] != expected) {
+				throw new IllegalStateException(name + " summed " + sum[0]);
+			}
+		}
+		printResult(name, list.size(), nanos / 1_000_000.0);
+	}
+
+	/** Time full-length searches and a count, sequential and on the fork-join pool. */
+	private void benchmarkSearch() {
+		printHeader("Search for the last element or a missing one, ms per search", "size");
+		IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+		for (int i = 0; i < SCAN_SIZE; i++) {
+			list.addToRear(i);
+		}
+		Integer last = SCAN_SIZE - 1;
+		Integer missing = -1;
+		timeSearch("indexOf(last)", SCAN_SIZE, () -> list.indexOf(last));
+		timeSearch("parallelIndexOf(last)", SCAN_SIZE, () -> list.parallelIndexOf(last));
+		timeSearch("contains(missing)", SCAN_SIZE, () -> list.contains(missing) ? 1 : 0);
+		timeSearch("parallelContains(missing)", SCAN_SIZE, () -> list.parallelContains(missing) ? 1 : 0);
+		timeSearch("parallelCount(even)", SCAN_SIZE, () -> list.parallelCount(element -> element % 2 == 0));
+	}
+
+	/** Time one search after warming it up.
+	 * @param name name of the search
+	 * @param size number of elements in the list searched
+	 * @param search runs the search and returns its result
+	 */
+	private void timeSearch(String name, int size, Supplier<Integer> search) {
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			search.get();
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / 1_000_000.0);
+	}
+
+	/////////////////////
+	// XXX HELPERS
+	/////////////////////
+
+	/** Build a list holding size elements.
+	 * @param supplier creates an empty list
+	 * @param size number of elements to add
+	 * @return the filled list
+	 */
+	private IndexedUnsortedList<Integer> filledList(Supplier<IndexedUnsortedList<Integer>> supplier, int size) {
+		IndexedUnsortedList<Integer> list = supplier.get();
+		for (int i = 0; i < size; i++) {
+			list.addToRear(i);
+		}
+		return list;
+	}
+
+	/** Bytes allocated on the heap by the current thread so far.
+	 * @return allocated byte count reported by the HotSpot thread MXBean
+	 */
+	private long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+				.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/** Print a section header
+	 * @param title description of the benchmark
+	 * @param parameter name of the value varied between rows
+	 */
+	private void printHeader(String title, String parameter) {
+		System.out.printf("\n%s\n\n", title);
+		System.out.printf("%-34s%12s%16s\n", "implementation", parameter, "result");
+	}
+
+	/** Print one result row
+	 * @param name name of the implementation
+	 * @param parameter the value varied between rows
+	 * @param result the measured value
+	 */
+	private void printResult(String name, int parameter, double result) {
+		System.out.printf("%-34s%12d%16.1f\n", name, parameter, result);
+	}
+}
@@ -1,7 +1,20 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * A unit test class for lists that implement IndexedUnsortedList. 
@@ -17,14 +30,14 @@ import java.util.NoSuchElementException;
 public class ListTester {
 	//possible lists that could be tested
 	private static enum ListToUse {
-		goodList, badList, arrayList, singleLinkedList, doubleLinkedList
+		goodList, badList, arrayList, singleLinkedList, doubleLinkedList, unrolledLinkedList, skipList, treeList, indexedDoubleLinkedList, arrayLinkedList, recyclingDoubleLinkedList, persistentList
 	};
 	// TODO: THIS IS WHERE YOU CHOOSE WHICH LIST TO TEST
 	private final static ListToUse LIST_TO_USE = ListToUse.doubleLinkedList;
 
 	// possible results expected in tests
 	private enum Result {
-		IndexOutOfBounds, IllegalState, NoSuchElement, 
+		IndexOutOfBounds, IllegalState, IllegalArgument, NoSuchElement, 
 		ConcurrentModification, UnsupportedOperation, 
 		NoException, UnexpectedException,
 		True, False, Pass, Fail, 
@@ -40,6 +53,9 @@ public class ListTester {
 	private static final Integer ELEMENT_X = -1;//element that should appear in no lists
 	private static final Integer ELEMENT_Z = -2;//element that should appear in no lists
 
+	// template the primitive lists are generated from, looked up in the working directory
+	private static final String PRIMITIVE_TEMPLATE = "PrimitiveDoubleLinkedList.template";
+
 	// determine whether to include ListIterator functionality tests
 	private final boolean SUPPORTS_LIST_ITERATOR; //initialized in constructor
 	
@@ -56,12 +72,14 @@ public class ListTester {
 	private boolean printFailuresOnly = true;
 	private boolean showToString = true;
 	private boolean printSectionSummaries = true;
+	private boolean reverseLists = false;
 
 	/**
 	 * Valid command line args include:
 	 *  -a : print results from all tests (default is to print failed tests, only)
 	 *  -s : hide Strings from toString() tests
 	 *  -m : hide section summaries in output
+	 *  -r : reverse each new double linked list while it is still empty, so every test runs against the reversed link orientation
 	 * @param args not used
 	 */
 	public static void main(String[] args) {
@@ -81,9 +99,19 @@ public class ListTester {
 				showToString = false;
 			if (arg.equalsIgnoreCase("-m"))
 				printSectionSummaries = false;
+			if (arg.equalsIgnoreCase("-r"))
+				reverseLists = true;
 		}
 		switch (LIST_TO_USE) {
 		case doubleLinkedList:
+		case indexedDoubleLinkedList:
+		case recyclingDoubleLinkedList:
+		case unrolledLinkedList:
+		case skipList:
+		case treeList:
+		case arrayLinkedList:
+		case persistentList:
+		case arrayList:
 			SUPPORTS_LIST_ITERATOR = true;
 			break;
 		default:
@@ -218,6 +246,46 @@ public class ListTester {
 			test_ListIterConcurrency();
 		}
 
+		//Stream tests
+		test_Streams();
+
+		//forEach tests
+		test_ForEach();
+
+		//bulk removal tests
+		test_BulkRemoval();
+
+		//range removal tests
+		test_RemoveRange();
+
+		//batch tests
+		test_Batches();
+
+		//primitive list tests
+		test_PrimitiveLists();
+
+		//off-heap record list tests
+		test_OffHeapRecords();
+
+		//concurrent deque tests
+		test_ConcurrentDeque();
+
+		//stamped lock list tests
+		test_StampedLock();
+
+		//snapshot tests for persistent lists
+		if (newList() instanceof IUPersistentList) {
+			test_Snapshots();
+		}
+
+		//double linked list tests
+		if (newList() instanceof IUDoubleLinkedList) {
+			test_ParallelScans();
+			test_Handles();
+			test_ConcatSplit();
+			test_Sort();
+		}
+
 		// report final verdict
 		printFinalSummary();
 	}
@@ -243,18 +311,42 @@ public class ListTester {
 		// case badList:
 		// 	listToUse = new BadList<Integer>();
 		// 	break;
-		// case arrayList:
-		// 	listToUse = new IUArrayList<Integer>();
-		// 	break;
-		// case singleLinkedList:
-		// 	listToUse = new IUSingleLinkedList<Integer>();
-		// 	break;
+		case arrayList:
+			listToUse = new IUArrayList<Integer>();
+			break;
+		case singleLinkedList:
+			listToUse = new IUSingleLinkedList<Integer>();
+			break;
 		case doubleLinkedList:
 			listToUse = new IUDoubleLinkedList<Integer>();
 			break;
+		case indexedDoubleLinkedList:
+			listToUse = new IUDoubleLinkedList<Integer>(true);
+			break;
+		case recyclingDoubleLinkedList:
+			listToUse = new IUDoubleLinkedList<Integer>(false, 2);
+			break;
+		case persistentList:
+			listToUse = new IUPersistentList<Integer>();
+			break;
+		case unrolledLinkedList:
+			listToUse = new IUUnrolledLinkedList<Integer>(2);
+			break;
+		case skipList:
+			listToUse = new IUSkipList<Integer>();
+			break;
+		case treeList:
+			listToUse = new IUTreeList<Integer>();
+			break;
+		case arrayLinkedList:
+			listToUse = new IUArrayLinkedList<Integer>(1);
+			break;
 		default:
 			listToUse = null;
 		}
+		if (reverseLists && listToUse instanceof IUDoubleLinkedList) {
+			((IUDoubleLinkedList<Integer>) listToUse).reverse();
+		}
 		return listToUse;
 	}
 	// The following creates a "lambda" reference that allows us to pass a scenario
@@ -1217,6 +1309,8 @@ public class ListTester {
 			result = Result.NoException;
 		} catch (NoSuchElementException e) {
 			result = Result.NoSuchElement;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testAddAfter", e.toString());
 			e.printStackTrace();
@@ -1239,6 +1333,8 @@ public class ListTester {
 			result = Result.NoException;
 		} catch (IndexOutOfBoundsException e) {
 			result = Result.IndexOutOfBounds;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
 			e.printStackTrace();
@@ -1247,6 +1343,30 @@ public class ListTester {
 		return result == expectedResult;
 	}
 
+	/** Runs addAll(int, Iterable) method on a given list and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index
+	 * @param elements
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddAllAtIndex(IndexedUnsortedList<Integer> list, int index, Iterable<Integer> elements, Result expectedResult) {
+		Result result;
+		try {
+			list.addAll(index, elements);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddAllAtIndex", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
 	/** Runs add(T) method on a given list and checks result against expectedResult
 	 * @param list a list already prepared for a given change scenario
 	 * @param element
@@ -1282,6 +1402,8 @@ public class ListTester {
 			result = Result.NoException;
 		} catch (IndexOutOfBoundsException e) {
 			result = Result.IndexOutOfBounds;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testSet", e.toString());
 			e.printStackTrace();
@@ -1445,6 +1567,8 @@ public class ListTester {
 			result = Result.IllegalState;
 		} catch (ConcurrentModificationException e) {
 			result = Result.ConcurrentModification;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
 		} catch (Exception e) {
 			System.out.printf("%s caught unexpected %s\n", "testIterRemove", e.toString());
 			e.printStackTrace();
@@ -2128,6 +2252,1685 @@ public class ListTester {
 			}
 		}
 	}
+	////////////////////////////////////////////////////////
+	// XXX Stream Tests
+	////////////////////////////////////////////////////////
+
+	/** run spliterator and stream tests */
+	private void test_Streams() {
+		System.out.println("\nStream Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			printTest("emptyList_testStreamToArray", testStreamToArray(newList(), new Integer[0], Result.MatchingValue));
+			printTest("ABC_testStreamToArray", testStreamToArray(AB_add2C_ABC(), LIST_ABC, Result.MatchingValue));
+			printTest("ABC_testParallelStreamSum", testParallelStreamSum(AB_add2C_ABC(), 6, Result.MatchingValue));
+
+			IndexedUnsortedList<Integer> list = AB_add2C_ABC();
+			printTest("ABC_testStreamForEach", testStreamForEach(list, x -> {}, Result.NoException));
+			final IndexedUnsortedList<Integer> shrinking = AB_add2C_ABC();
+			printTest("ABC_removeLastInStreamForEach_testConcurrent", testStreamForEach(shrinking,
+					x -> { if (x.equals(ELEMENT_B)) shrinking.removeLast(); }, Result.ConcurrentModification));
+			final IndexedUnsortedList<Integer> growing = AB_add2C_ABC();
+			printTest("ABC_addToRearInStreamForEach_testConcurrent", testStreamForEach(growing,
+					x -> { if (x.equals(ELEMENT_B)) growing.addToRear(ELEMENT_D); }, Result.ConcurrentModification));
+
+			list = AB_add2C_ABC();
+			Spliterator<Integer> spliterator = list.spliterator();
+			printTest("ABC_testTryAdvance", testTryAdvance(spliterator, ELEMENT_A, Result.MatchingValue));
+			list.removeLast();
+			printTest("ABC_tryAdvanceRemoveLast_testTryAdvanceConcurrent", testTryAdvance(spliterator, ELEMENT_B, Result.ConcurrentModification));
+
+			//lists built on concurrent structures must not report a size they cannot keep
+			IUConcurrentDeque<Integer> deque = new IUConcurrentDeque<Integer>();
+			deque.addToRear(ELEMENT_A);
+			deque.addToRear(ELEMENT_B);
+			printTest("concurrentDequeAB_testSpliteratorNotSized", !deque.spliterator().hasCharacteristics(Spliterator.SIZED));
+			IUStampedLockList<Integer> stamped = new IUStampedLockList<Integer>(AB_add2C_ABC());
+			printTest("stampedLockABC_testStreamToArray", testStreamToArray(stamped, LIST_ABC, Result.MatchingValue));
+			printTest("stampedLockABC_testSpliteratorImmutable", stamped.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Streams");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Collects list's stream() into an array and checks it against the expected contents
+	 * @param list a list already prepared for a given change scenario
+	 * @param expected the elements the stream should produce, in order
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testStreamToArray(IndexedUnsortedList<Integer> list, Integer[] expected, Result expectedResult) {
+		Result result;
+		try {
+			if (Arrays.equals(list.stream().toArray(), expected)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testStreamToArray", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Sums list's parallelStream() and checks it against expectedSum
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedSum the sum of the list's elements
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testParallelStreamSum(IndexedUnsortedList<Integer> list, int expectedSum, Result expectedResult) {
+		Result result;
+		try {
+			if (list.parallelStream().mapToInt(Integer::intValue).sum() == expectedSum) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testParallelStreamSum", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs action on each element of list's stream() and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param action the action to run on each element, which may change the list
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testStreamForEach(IndexedUnsortedList<Integer> list, Consumer<Integer> action, Result expectedResult) {
+		Result result;
+		try {
+			list.stream().forEach(action);
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testStreamForEach", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs spliterator's tryAdvance() method and checks result against expectedResult
+	 * @param spliterator a spliterator already positioned for the call to tryAdvance()
+	 * @param expectedValue the Integer expected from tryAdvance() or null if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testTryAdvance(Spliterator<Integer> spliterator, Integer expectedValue, Result expectedResult) {
+		Result result;
+		try {
+			Integer[] retVal = new Integer[1];
+			if (spliterator.tryAdvance(x -> retVal[0] = x) && expectedValue.equals(retVal[0])) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testTryAdvance", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+	////////////////////////////////////////////////////////
+	// XXX forEach Tests
+	////////////////////////////////////////////////////////
+
+	/** run forEach() and forEachRemaining() tests */
+	private void test_ForEach() {
+		System.out.println("\nforEach Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			ArrayList<Integer> seen = new ArrayList<Integer>();
+			printTest("emptyList_testForEach", testForEach(newList(), seen::add, Result.NoException) && seen.isEmpty());
+			seen.clear();
+			printTest("ABC_testForEach", testForEach(AB_add2C_ABC(), seen::add, Result.NoException) && Arrays.equals(seen.toArray(), LIST_ABC));
+
+			//removeLast() leaves a spare node behind, which a recycling list reuses
+			final IndexedUnsortedList<Integer> list = AB_add2C_ABC();
+			list.addToRear(ELEMENT_D);
+			list.removeLast();
+			seen.clear();
+			printTest("ABC_removeAInForEach_testConcurrent", testForEach(list,
+					x -> { seen.add(x); if (x.equals(ELEMENT_A)) list.remove(ELEMENT_A); }, Result.ConcurrentModification));
+			printTest("ABC_removeAInForEach_testSeenNoNull", !seen.contains(null));
+			final IndexedUnsortedList<Integer> growing = AB_add2C_ABC();
+			printTest("ABC_addToRearInForEach_testConcurrent", testForEach(growing,
+					x -> { if (x.equals(ELEMENT_A)) growing.addToRear(ELEMENT_D); }, Result.ConcurrentModification));
+
+			if (SUPPORTS_LIST_ITERATOR) {
+				ListIterator<Integer> iterator = listIterAfterNext(AB_add2C_ABC().listIterator(), 1);
+				seen.clear();
+				printTest("ABC_listIterNext_testForEachRemaining", testForEachRemaining(iterator, seen::add, Result.NoException)
+						&& Arrays.equals(seen.toArray(), new Integer[] {ELEMENT_B, ELEMENT_C}));
+				printTest("ABC_listIterForEachRemaining_testHasNext", testIterHasNext(iterator, Result.False));
+				printTest("ABC_listIterForEachRemaining_testPrevious", testListIterPrevious(iterator, ELEMENT_C, Result.MatchingValue));
+				printTest("ABC_listIterForEachRemaining_testNextIndex", testListIterNextIndex(iterator, 2, Result.MatchingValue));
+
+				final IndexedUnsortedList<Integer> shrinking = AB_add2C_ABC();
+				shrinking.addToRear(ELEMENT_D);
+				shrinking.removeLast();
+				seen.clear();
+				printTest("ABC_removeBInForEachRemaining_testConcurrent", testForEachRemaining(shrinking.listIterator(),
+						x -> { seen.add(x); if (x.equals(ELEMENT_B)) shrinking.remove(ELEMENT_B); }, Result.ConcurrentModification));
+				printTest("ABC_removeBInForEachRemaining_testSeenNoNull", !seen.contains(null));
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ForEach");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs list's forEach() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param action the action to run on each element, which may change the list
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testForEach(IndexedUnsortedList<Integer> list, Consumer<Integer> action, Result expectedResult) {
+		Result result;
+		try {
+			list.forEach(action);
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testForEach", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs iterator's forEachRemaining() method and checks result against expectedResult
+	 * @param iterator an iterator already positioned for the call to forEachRemaining()
+	 * @param action the action to run on each element, which may change the list
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testForEachRemaining(Iterator<Integer> iterator, Consumer<Integer> action, Result expectedResult) {
+		Result result;
+		try {
+			iterator.forEachRemaining(action);
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testForEachRemaining", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+	////////////////////////////////////////////////////////
+	// XXX Parallel Scan Tests
+	// Only run for IUDoubleLinkedList
+	////////////////////////////////////////////////////////
+
+	/** run parallelIndexOf(), parallelContains(), parallelCount() and parallelReduce() tests */
+	private void test_ParallelScans() {
+		System.out.println("\nParallel Scan Tests\n");
+		try {
+			printTest("emptyList_testParallelIndexOfA", testParallelIndexOf(newDoubleLinkedList(0), ELEMENT_A, -1));
+			printTest("ABC_testParallelIndexOfC", testParallelIndexOf((IUDoubleLinkedList<Integer>) AB_add2C_ABC(), ELEMENT_C, 2));
+			printTest("ABC_testParallelIndexOfX", testParallelIndexOf((IUDoubleLinkedList<Integer>) AB_add2C_ABC(), ELEMENT_X, -1));
+			printTest("ABC_testParallelContainsB", ((IUDoubleLinkedList<Integer>) AB_add2C_ABC()).parallelContains(ELEMENT_B));
+			printTest("ABC_testParallelCount", testParallelCount((IUDoubleLinkedList<Integer>) AB_add2C_ABC(), x -> x > ELEMENT_A, 2, Result.MatchingValue));
+			printTest("ABC_testParallelReduce", ((IUDoubleLinkedList<Integer>) AB_add2C_ABC()).parallelReduce(0, (sum, x) -> sum + x, Integer::sum) == 6);
+
+			//large enough to be scanned in several segments
+			int bigSize = 100000;
+			IUDoubleLinkedList<Integer> big = newDoubleLinkedList(bigSize);
+			printTest("big_testParallelIndexOfLast", testParallelIndexOf(big, bigSize - 1, bigSize - 1));
+			printTest("big_testParallelCount", testParallelCount(big, x -> x % 2 == 0, bigSize / 2, Result.MatchingValue));
+			printTest("big_testParallelReduce", big.parallelReduce(0L, (sum, x) -> sum + x, Long::sum) == (long) bigSize * (bigSize - 1) / 2);
+			big.set(bigSize - 1, ELEMENT_X);
+			printTest("big_setLastX_testParallelIndexOfX", testParallelIndexOf(big, ELEMENT_X, bigSize - 1));
+			for (int i = 0; i < bigSize; i++) {
+				big.addToRear(bigSize + i);
+			}
+			printTest("big_addToRearMore_testParallelIndexOfLast", testParallelIndexOf(big, 2 * bigSize - 1, 2 * bigSize - 1));
+			big.add(bigSize, ELEMENT_Z);
+			printTest("big_addMiddleZ_testParallelIndexOfLast", testParallelIndexOf(big, 2 * bigSize - 1, 2 * bigSize));
+			big.removeFirst();
+			printTest("big_removeFirst_testParallelIndexOfZ", testParallelIndexOf(big, ELEMENT_Z, bigSize - 1));
+
+			//a scan fails fast on lists of every length
+			final IUDoubleLinkedList<Integer> growing = (IUDoubleLinkedList<Integer>) AB_add2C_ABC();
+			printTest("ABC_addToRearInParallelCount_testConcurrent", testParallelCount(growing,
+					x -> { growing.addToRear(ELEMENT_D); return true; }, 0, Result.ConcurrentModification));
+			final IUDoubleLinkedList<Integer> shrinking = (IUDoubleLinkedList<Integer>) AB_add2C_ABC();
+			printTest("ABC_removeLastInParallelCount_testConcurrent", testParallelCount(shrinking,
+					x -> { shrinking.removeLast(); return true; }, 0, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ParallelScans");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs list's parallelIndexOf() method and checks result against expectedIndex
+	 * @param list a list already prepared for a given change scenario
+	 * @param element the element to search for
+	 * @param expectedIndex the index expected from parallelIndexOf()
+	 * @return test success
+	 */
+	private boolean testParallelIndexOf(IUDoubleLinkedList<Integer> list, Integer element, int expectedIndex) {
+		try {
+			return list.parallelIndexOf(element) == expectedIndex;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testParallelIndexOf", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs list's parallelCount() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param filter the predicate to count, which may change the list
+	 * @param expectedCount the count expected from parallelCount(), ignored if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testParallelCount(IUDoubleLinkedList<Integer> list, Predicate<Integer> filter, int expectedCount, Result expectedResult) {
+		Result result;
+		try {
+			if (list.parallelCount(filter) == expectedCount) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testParallelCount", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+	////////////////////////////////////////////////////////
+	// XXX Handle Tests
+	// Only run for IUDoubleLinkedList
+	////////////////////////////////////////////////////////
+
+	/** run node handle tests */
+	private void test_Handles() {
+		System.out.println("\nHandle Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = newDoubleLinkedList(0);
+			IUDoubleLinkedList.Handle<Integer> handleA = list.addToRearHandle(ELEMENT_A);
+			IUDoubleLinkedList.Handle<Integer> handleB = list.addToRearHandle(ELEMENT_B);
+			IUDoubleLinkedList.Handle<Integer> handleC = list.addToRearHandle(ELEMENT_C);
+			printTest("ABC_testGetHandleB", testGetHandle(list, handleB, ELEMENT_B, Result.MatchingValue));
+			list.insertAfter(handleB, ELEMENT_D);
+			printTest("ABC_insertAfterBD_testIndexOfD", testIndexOf(list, ELEMENT_D, 2));
+			list.moveToFront(handleC);
+			printTest("ABDC_moveToFrontC_testFirst", testFirst(list, ELEMENT_C, Result.MatchingValue));
+			printTest("CABD_testGetHandleC", testGetHandle(list, handleC, ELEMENT_C, Result.MatchingValue));
+			printTest("CABD_testRemoveHandleB", testRemoveHandle(list, handleB, ELEMENT_B, Result.MatchingValue));
+
+			//a handle is tied to its element and to the list holding it
+			printTest("CAD_removedB_testGetHandleB", testGetHandle(list, handleB, null, Result.IllegalState));
+			printTest("CAD_removedB_testRemoveHandleB", testRemoveHandle(list, handleB, null, Result.IllegalState));
+			printTest("CAD_removedB_testSize", testSize(list, 3));
+			IUDoubleLinkedList<Integer> other = newDoubleLinkedList(0);
+			other.addToRearHandle(ELEMENT_A);
+			printTest("otherA_testGetHandleFromCAD", testGetHandle(other, handleA, null, Result.IllegalArgument));
+			printTest("otherA_testRemoveHandleFromCAD", testRemoveHandle(other, handleA, null, Result.IllegalArgument));
+			list.clear();
+			printTest("CAD_clear_testGetHandleA", testGetHandle(list, handleA, null, Result.IllegalState));
+			list.addToRear(ELEMENT_A);
+			printTest("CAD_clearAddA_testGetHandleA", testGetHandle(list, handleA, null, Result.IllegalState));
+
+			//handles move with their nodes
+			list = newDoubleLinkedList(0);
+			list.addToRear(ELEMENT_A);
+			other = newDoubleLinkedList(0);
+			handleB = other.addToRearHandle(ELEMENT_B);
+			list.concat(other);
+			printTest("A_concatB_testGetHandleB", testGetHandle(list, handleB, ELEMENT_B, Result.MatchingValue));
+			printTest("A_concatB_testGetHandleBFromOther", testGetHandle(other, handleB, null, Result.IllegalArgument));
+			handleC = list.addToRearHandle(ELEMENT_C);
+			IUDoubleLinkedList<Integer> suffix = list.splitAt(1);
+			printTest("ABC_splitAt1_testGetHandleB", testGetHandle(suffix, handleB, ELEMENT_B, Result.MatchingValue));
+			printTest("ABC_splitAt1_testGetHandleC", testGetHandle(suffix, handleC, ELEMENT_C, Result.MatchingValue));
+			printTest("ABC_splitAt1_testGetHandleCFromPrefix", testGetHandle(list, handleC, null, Result.IllegalArgument));
+			printTest("ABC_splitAt1_testRemoveHandleB", testRemoveHandle(suffix, handleB, ELEMENT_B, Result.MatchingValue));
+			printTest("ABC_splitAt1_testPrefixSize", testSize(list, 1));
+
+			//a removed handle's node is never handed out again, even by a recycling list
+			IUDoubleLinkedList<Integer> recycling = new IUDoubleLinkedList<Integer>(false, 4);
+			handleA = recycling.addToRearHandle(ELEMENT_A);
+			recycling.removeHandle(handleA);
+			recycling.addToRear(ELEMENT_B);
+			recycling.addToRear(ELEMENT_C);
+			printTest("recyclingBC_removedA_testGetHandleA", testGetHandle(recycling, handleA, null, Result.IllegalState));
+			printTest("recyclingBC_removedA_testFirst", testFirst(recycling, ELEMENT_B, Result.MatchingValue));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Handles");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs list's getHandle() method and checks result against expectedResult
+	 * @param list the list the handle is passed to
+	 * @param handle the handle to look up
+	 * @param expectedElement the Integer expected from getHandle() or null if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testGetHandle(IUDoubleLinkedList<Integer> list, IUDoubleLinkedList.Handle<Integer> handle, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.getHandle(handle);
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testGetHandle", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's removeHandle() method and checks result against expectedResult
+	 * @param list the list the handle is passed to
+	 * @param handle the handle to remove
+	 * @param expectedElement the Integer expected from removeHandle() or null if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testRemoveHandle(IUDoubleLinkedList<Integer> list, IUDoubleLinkedList.Handle<Integer> handle, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.removeHandle(handle);
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveHandle", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Concat and Split Tests
+	// Only run for IUDoubleLinkedList
+	////////////////////////////////////////////////////////
+
+	/** run concat() and splitAt() tests */
+	private void test_ConcatSplit() {
+		System.out.println("\nConcat and Split Tests\n");
+		try {
+			Integer[] LIST_AB = {ELEMENT_A, ELEMENT_B};
+			Integer[] LIST_ABCD = {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D};
+			IUDoubleLinkedList<Integer> list = newDoubleLinkedList(0);
+			IUDoubleLinkedList<Integer> other = (IUDoubleLinkedList<Integer>) AB_add2C_ABC();
+			other.removeLast();
+			printTest("emptyList_concatAB_testConcat", testConcat(list, other, Result.NoException));
+			printTest("emptyList_concatAB_testContents", testContents(list, LIST_AB));
+			printTest("emptyList_concatAB_testOtherIsEmpty", testIsEmpty(other, Result.True));
+			printTest("AB_concatEmptyList_testConcat", testConcat(list, other, Result.NoException));
+			printTest("AB_concatEmptyList_testContents", testContents(list, LIST_AB));
+			printTest("AB_concatAB_testConcatItself", testConcat(list, list, Result.IllegalArgument));
+			printTest("AB_concatAB_testSize", testSize(list, 2));
+
+			//live iterators on either list fail fast
+			other = newDoubleLinkedList(0);
+			other.addToRear(ELEMENT_C);
+			Iterator<Integer> it1 = list.iterator();
+			Iterator<Integer> it2 = other.iterator();
+			list.concat(other);
+			printTest("AB_concatC_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			printTest("AB_concatC_testOtherIterNextConcurrent", testIterNext(it2, ELEMENT_C, Result.ConcurrentModification));
+			it1 = list.iterator();
+			IUDoubleLinkedList<Integer> suffix = list.splitAt(1);
+			printTest("ABC_splitAt1_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			printTest("ABC_splitAt1_testPrefixContents", testContents(list, new Integer[] {ELEMENT_A}));
+			printTest("ABC_splitAt1_testSuffixContents", testContents(suffix, new Integer[] {ELEMENT_B, ELEMENT_C}));
+			printTest("ABC_splitAt1_testSuffixLast", testLast(suffix, ELEMENT_C, Result.MatchingValue));
+
+			//splitting at either end
+			list = (IUDoubleLinkedList<Integer>) AB_add2C_ABC();
+			suffix = list.splitAt(0);
+			printTest("ABC_splitAt0_testPrefixIsEmpty", testIsEmpty(list, Result.True));
+			printTest("ABC_splitAt0_testSuffixSize", testSize(suffix, 3));
+			list = (IUDoubleLinkedList<Integer>) AB_add2C_ABC();
+			suffix = list.splitAt(3);
+			printTest("ABC_splitAt3_testPrefixSize", testSize(list, 3));
+			printTest("ABC_splitAt3_testSuffixIsEmpty", testIsEmpty(suffix, Result.True));
+			printTest("ABC_splitAt4_testSplitAt", testSplitAt(list, 4, Result.IndexOutOfBounds));
+			printTest("ABC_splitAtNeg1_testSplitAt", testSplitAt(list, -1, Result.IndexOutOfBounds));
+
+			//indexed and reversed lists
+			list = new IUDoubleLinkedList<Integer>(true);
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_B);
+			other = new IUDoubleLinkedList<Integer>();
+			other.addToRear(ELEMENT_D);
+			other.addToRear(ELEMENT_C);
+			other.reverse();
+			list.concat(other);
+			printTest("indexedAB_concatReversedCD_testContents", testContents(list, LIST_ABCD));
+			printTest("indexedAB_concatReversedCD_testIndexOfD", testIndexOf(list, ELEMENT_D, 3));
+			printTest("indexedAB_concatReversedCD_testContainsC", testContains(list, ELEMENT_C, Result.True));
+			suffix = list.splitAt(2);
+			printTest("indexedABCD_splitAt2_testPrefixContainsC", testContains(list, ELEMENT_C, Result.False));
+			printTest("indexedABCD_splitAt2_testSuffixIndexOfD", testIndexOf(suffix, ELEMENT_D, 1));
+			list = new IUDoubleLinkedList<Integer>();
+			list.addToRear(ELEMENT_C);
+			list.addToRear(ELEMENT_B);
+			list.addToRear(ELEMENT_A);
+			list.reverse();
+			suffix = list.splitAt(1);
+			printTest("reversedABC_splitAt1_testSuffixContents", testContents(suffix, new Integer[] {ELEMENT_B, ELEMENT_C}));
+			suffix.addToFront(ELEMENT_A);
+			printTest("reversedABC_splitAt1AddToFrontA_testSuffixContents", testContents(suffix, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ConcatSplit");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Returns a new double linked list holding 0 to size - 1, in order
+	 * @param size the number of elements to add
+	 * @return [0, 1, ..., size - 1]
+	 */
+	private IUDoubleLinkedList<Integer> newDoubleLinkedList(int size) {
+		IUDoubleLinkedList<Integer> list = (IUDoubleLinkedList<Integer>) newList();
+		for (int i = 0; i < size; i++) {
+			list.addToRear(i);
+		}
+		return list;
+	}
+
+	/** Iterates over list and checks that it holds exactly the expected elements, in order
+	 * @param list a list already prepared for a given change scenario
+	 * @param expected the elements the list should hold, in order
+	 * @return test success
+	 */
+	private boolean testContents(IndexedUnsortedList<Integer> list, Integer[] expected) {
+		try {
+			ArrayList<Integer> contents = new ArrayList<Integer>();
+			for (Integer element : list) {
+				contents.add(element);
+			}
+			return list.size() == expected.length && Arrays.equals(contents.toArray(), expected);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs list's concat() method and checks result against expectedResult
+	 * @param list the list to concat onto
+	 * @param other the list whose elements are moved
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testConcat(IUDoubleLinkedList<Integer> list, IUDoubleLinkedList<Integer> other, Result expectedResult) {
+		Result result;
+		try {
+			list.concat(other);
+			result = Result.NoException;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testConcat", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's splitAt() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index the index to split at
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testSplitAt(IUDoubleLinkedList<Integer> list, int index, Result expectedResult) {
+		Result result;
+		try {
+			list.splitAt(index);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSplitAt", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Bulk Removal Tests
+	////////////////////////////////////////////////////////
+
+	/** run removeIf(), removeAll() and retainAll() tests */
+	private void test_BulkRemoval() {
+		System.out.println("\nBulk Removal Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			Integer[] LIST_AC = {ELEMENT_A, ELEMENT_C};
+			IndexedUnsortedList<Integer> list = newList();
+			printTest("emptyList_testRemoveIfAll", testRemoveIf(list, x -> true, Result.False));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveIfB", testRemoveIf(list, x -> x.equals(ELEMENT_B), Result.True));
+			printTest("ABC_removeIfB_testContents", testContents(list, LIST_AC));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveIfNone", testRemoveIf(list, x -> false, Result.False));
+			printTest("ABC_removeIfNone_testContents", testContents(list, LIST_ABC));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveIfAll", testRemoveIf(list, x -> true, Result.True));
+			printTest("ABC_removeIfAll_testIsEmpty", testIsEmpty(list, Result.True));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveIfFirstAndLast", testRemoveIf(list, x -> !x.equals(ELEMENT_B), Result.True));
+			printTest("ABC_removeIfFirstAndLast_testFirst", testFirst(list, ELEMENT_B, Result.MatchingValue));
+			printTest("ABC_removeIfFirstAndLast_testLast", testLast(list, ELEMENT_B, Result.MatchingValue));
+
+			//removeAll() drops every copy of each element, retainAll() keeps every copy
+			list = AB_add2C_ABC();
+			list.addToRear(ELEMENT_A);
+			printTest("ABCA_testRemoveAllA", testRemoveAll(list, Arrays.asList(ELEMENT_A, ELEMENT_X), Result.True));
+			printTest("ABCA_removeAllA_testContents", testContents(list, new Integer[] {ELEMENT_B, ELEMENT_C}));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveAllX", testRemoveAll(list, Arrays.asList(ELEMENT_X), Result.False));
+			printTest("ABC_testRemoveAllEmpty", testRemoveAll(list, new ArrayList<Integer>(), Result.False));
+			printTest("ABC_testRemoveAllItself", testRemoveAll(list, list, Result.True));
+			printTest("ABC_removeAllItself_testIsEmpty", testIsEmpty(list, Result.True));
+			list = AB_add2C_ABC();
+			list.addToRear(ELEMENT_A);
+			printTest("ABCA_testRetainAllAC", testRetainAll(list, new HashSet<Integer>(Arrays.asList(ELEMENT_A, ELEMENT_C)), Result.True));
+			printTest("ABCA_retainAllAC_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_C, ELEMENT_A}));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRetainAllItself", testRetainAll(list, list, Result.False));
+			printTest("ABC_testRetainAllEmpty", testRetainAll(list, new ArrayList<Integer>(), Result.True));
+			printTest("ABC_retainAllEmpty_testIsEmpty", testIsEmpty(list, Result.True));
+
+			//a removal makes live iterators fail fast, a call that removes nothing does not
+			list = AB_add2C_ABC();
+			Iterator<Integer> it1 = list.iterator();
+			list.removeIf(x -> x.equals(ELEMENT_B));
+			printTest("ABC_removeIfB_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = AB_add2C_ABC();
+			it1 = list.iterator();
+			list.removeIf(x -> false);
+			printTest("ABC_removeIfNone_testIterNext", testIterNext(it1, ELEMENT_A, Result.MatchingValue));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_BulkRemoval");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs list's removeIf() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param filter returns true for elements to be removed
+	 * @param expectedResult True, False or expected exception
+	 * @return test success
+	 */
+	private boolean testRemoveIf(IndexedUnsortedList<Integer> list, Predicate<Integer> filter, Result expectedResult) {
+		Result result;
+		try {
+			result = list.removeIf(filter) ? Result.True : Result.False;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveIf", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's removeAll() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param elements the elements to be removed
+	 * @param expectedResult True, False or expected exception
+	 * @return test success
+	 */
+	private boolean testRemoveAll(IndexedUnsortedList<Integer> list, Iterable<Integer> elements, Result expectedResult) {
+		Result result;
+		try {
+			result = list.removeAll(elements) ? Result.True : Result.False;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveAll", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's retainAll() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param elements the elements to be kept
+	 * @param expectedResult True, False or expected exception
+	 * @return test success
+	 */
+	private boolean testRetainAll(IndexedUnsortedList<Integer> list, Iterable<Integer> elements, Result expectedResult) {
+		Result result;
+		try {
+			result = list.retainAll(elements) ? Result.True : Result.False;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRetainAll", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Sort Tests
+	// Only run for IUDoubleLinkedList
+	////////////////////////////////////////////////////////
+
+	/** run sort() and parallelSort() tests */
+	private void test_Sort() {
+		System.out.println("\nSort Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			IUDoubleLinkedList<Integer> list = newDoubleLinkedList(0);
+			printTest("emptyList_testSort", testSort(list, null, Result.NoException));
+			printTest("emptyList_sort_testIsEmpty", testIsEmpty(list, Result.True));
+			list = (IUDoubleLinkedList<Integer>) AB_addToFrontC_CAB();
+			printTest("CAB_testSort", testSort(list, null, Result.NoException));
+			printTest("CAB_sort_testContents", testContents(list, LIST_ABC));
+			printTest("CAB_sort_testLast", testLast(list, ELEMENT_C, Result.MatchingValue));
+			list = (IUDoubleLinkedList<Integer>) AB_addToFrontC_CAB();
+			printTest("CAB_testSortReverseOrder", testSort(list, Comparator.reverseOrder(), Result.NoException));
+			printTest("CAB_sortReverseOrder_testContents", testContents(list, new Integer[] {ELEMENT_C, ELEMENT_B, ELEMENT_A}));
+
+			//equal elements keep their order: 21, 11, 22, 12 sorted by tens
+			list = newDoubleLinkedList(0);
+			list.addToRear(21);
+			list.addToRear(11);
+			list.addToRear(22);
+			list.addToRear(12);
+			printTest("tens_testSortStable", testSort(list, Comparator.comparing(x -> x / 10), Result.NoException));
+			printTest("tens_sortStable_testContents", testContents(list, new Integer[] {11, 12, 21, 22}));
+
+			//a sort fails live iterators fast, and a failing comparator loses no elements
+			list = (IUDoubleLinkedList<Integer>) AB_addToFrontC_CAB();
+			Iterator<Integer> it1 = list.iterator();
+			list.sort(null);
+			printTest("CAB_sort_testIterNextConcurrent", testIterNext(it1, ELEMENT_C, Result.ConcurrentModification));
+			list = (IUDoubleLinkedList<Integer>) AB_addToFrontC_CAB();
+			printTest("CAB_testSortThrowingComparator", testSort(list, (x, y) -> { throw new IllegalStateException(); }, Result.IllegalState));
+			printTest("CAB_sortThrowingComparator_testSize", testSize(list, 3));
+			printTest("CAB_sortThrowingComparator_testContainsB", testContains(list, ELEMENT_B, Result.True));
+			list = new IUDoubleLinkedList<Integer>(true);
+			list.addToRear(ELEMENT_C);
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_B);
+			list.sort(null);
+			printTest("indexedCAB_sort_testIndexOfC", testIndexOf(list, ELEMENT_C, 2));
+
+			//large enough to be sorted in several segments; each element is key * 100000 + its original position
+			int bigSize = 100000;
+			IUDoubleLinkedList<Integer> big = newDoubleLinkedList(0);
+			for (int i = 0; i < bigSize; i++) {
+				big.addToRear((i * 31 % 100) * 100000 + i);
+			}
+			printTest("big_testParallelSortStable", testParallelSort(big, Comparator.comparing(x -> x / 100000), Result.NoException));
+			printTest("big_parallelSortStable_testSorted", testSorted(big, bigSize));
+			big.addToFront(ELEMENT_X);
+			printTest("big_addToFrontX_testParallelSort", testParallelSort(big, null, Result.NoException));
+			printTest("big_addToFrontXParallelSort_testFirst", testFirst(big, ELEMENT_X, Result.MatchingValue));
+			printTest("big_addToFrontXParallelSort_testSorted", testSorted(big, bigSize + 1));
+			//a comparator that fails partway through a parallel sort loses no elements
+			for (int failAt : new int[] {200000, 1200000, 1500000}) {
+				big = newDoubleLinkedList(0);
+				for (int i = 0; i < bigSize; i++) {
+					big.addToRear(i * 7919 % bigSize);
+				}
+				AtomicInteger calls = new AtomicInteger();
+				Comparator<Integer> failing = (x, y) -> {
+					if (calls.incrementAndGet() == failAt) {
+						throw new IllegalStateException();
+					}
+					return x.compareTo(y);
+				};
+				printTest("big_testParallelSortThrowingAt" + failAt, testParallelSort(big, failing, Result.IllegalState));
+				printTest("big_parallelSortThrowingAt" + failAt + "_testAllPresent", testAllPresent(big, bigSize));
+			}
+			list = (IUDoubleLinkedList<Integer>) AB_addToFrontC_CAB();
+			printTest("CAB_testParallelSort", testParallelSort(list, null, Result.NoException));
+			printTest("CAB_parallelSort_testContents", testContents(list, LIST_ABC));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Sort");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs list's sort() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param comparator the order to sort by, or null for the natural order
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testSort(IUDoubleLinkedList<Integer> list, Comparator<Integer> comparator, Result expectedResult) {
+		Result result;
+		try {
+			list.sort(comparator);
+			result = Result.NoException;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSort", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's parallelSort() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param comparator the order to sort by, or null for the natural order
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testParallelSort(IUDoubleLinkedList<Integer> list, Comparator<Integer> comparator, Result expectedResult) {
+		Result result;
+		try {
+			list.parallelSort(comparator);
+			result = Result.NoException;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testParallelSort", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Checks that list holds expectedSize elements in ascending order
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedSize the number of elements the list should hold
+	 * @return test success
+	 */
+	private boolean testSorted(IndexedUnsortedList<Integer> list, int expectedSize) {
+		try {
+			int count = 0;
+			Integer previous = null;
+			for (Integer element : list) {
+				if (previous != null && previous > element) {
+					return false;
+				}
+				previous = element;
+				count++;
+			}
+			return count == expectedSize && list.size() == expectedSize;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSorted", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Checks that list holds exactly the values 0 to expectedSize - 1, in any order,
+	 * and that its size matches the number of elements iteration visits
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedSize the number of elements the list should hold
+	 * @return test success
+	 */
+	private boolean testAllPresent(IndexedUnsortedList<Integer> list, int expectedSize) {
+		try {
+			boolean[] seen = new boolean[expectedSize];
+			int count = 0;
+			for (Integer element : list) {
+				if (element < 0 || element >= expectedSize || seen[element]) {
+					return false;
+				}
+				seen[element] = true;
+				count++;
+			}
+			return count == expectedSize && list.size() == expectedSize;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAllPresent", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Range Removal Tests
+	////////////////////////////////////////////////////////
+
+	/** run removeRange() and clear() tests */
+	private void test_RemoveRange() {
+		System.out.println("\nRange Removal Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			printTest("emptyList_testRemoveRange00", testRemoveRange(newList(), 0, 0, Result.NoException));
+			printTest("emptyList_testRemoveRange01", testRemoveRange(newList(), 0, 1, Result.IndexOutOfBounds));
+			IndexedUnsortedList<Integer> list = AB_add2C_ABC();
+			printTest("ABC_testRemoveRange12", testRemoveRange(list, 1, 2, Result.NoException));
+			printTest("ABC_removeRange12_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_C}));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveRange02", testRemoveRange(list, 0, 2, Result.NoException));
+			printTest("ABC_removeRange02_testFirst", testFirst(list, ELEMENT_C, Result.MatchingValue));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveRange13", testRemoveRange(list, 1, 3, Result.NoException));
+			printTest("ABC_removeRange13_testLast", testLast(list, ELEMENT_A, Result.MatchingValue));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveRange03", testRemoveRange(list, 0, 3, Result.NoException));
+			printTest("ABC_removeRange03_testIsEmpty", testIsEmpty(list, Result.True));
+			list = AB_add2C_ABC();
+			printTest("ABC_testRemoveRange33", testRemoveRange(list, 3, 3, Result.NoException));
+			printTest("ABC_removeRange33_testContents", testContents(list, LIST_ABC));
+			printTest("ABC_testRemoveRange21", testRemoveRange(list, 2, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRangeNeg11", testRemoveRange(list, -1, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange04", testRemoveRange(list, 0, 4, Result.IndexOutOfBounds));
+			printTest("ABC_badRemoveRanges_testContents", testContents(list, LIST_ABC));
+
+			printTest("emptyList_testClear", testClear(newList(), Result.NoException));
+			list = AB_add2C_ABC();
+			printTest("ABC_testClear", testClear(list, Result.NoException));
+			printTest("ABC_clear_testIsEmpty", testIsEmpty(list, Result.True));
+			printTest("ABC_clear_testFirst", testFirst(list, null, Result.NoSuchElement));
+			list.addToRear(ELEMENT_A);
+			printTest("ABC_clearAddToRearA_testContents", testContents(list, new Integer[] {ELEMENT_A}));
+
+			//live iterators fail fast once a range is gone
+			list = AB_add2C_ABC();
+			Iterator<Integer> it1 = list.iterator();
+			list.removeRange(0, 1);
+			printTest("ABC_removeRange01_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = AB_add2C_ABC();
+			it1 = list.iterator();
+			list.clear();
+			printTest("ABC_clear_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_RemoveRange");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs list's removeRange() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param fromIndex the index of the first element to remove
+	 * @param toIndex the index after the last element to remove
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testRemoveRange(IndexedUnsortedList<Integer> list, int fromIndex, int toIndex, Result expectedResult) {
+		Result result;
+		try {
+			list.removeRange(fromIndex, toIndex);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveRange", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's clear() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testClear(IndexedUnsortedList<Integer> list, Result expectedResult) {
+		Result result;
+		try {
+			list.clear();
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testClear", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Batch Tests
+	////////////////////////////////////////////////////////
+
+	/** run batchCursor() and addBatch() tests */
+	private void test_Batches() {
+		System.out.println("\nBatch Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			Integer[] buffer = new Integer[2];
+			IndexedUnsortedList.BatchCursor<Integer> cursor = newList().batchCursor();
+			printTest("emptyList_testNextBatch", testNextBatch(cursor, buffer, new Integer[0], Result.MatchingValue));
+			cursor = AB_add2C_ABC().batchCursor();
+			printTest("ABC_testNextBatchAB", testNextBatch(cursor, buffer, new Integer[] {ELEMENT_A, ELEMENT_B}, Result.MatchingValue));
+			printTest("ABC_nextBatchAB_testNextBatchC", testNextBatch(cursor, buffer, new Integer[] {ELEMENT_C}, Result.MatchingValue));
+			printTest("ABC_nextBatchABC_testNextBatchEmpty", testNextBatch(cursor, buffer, new Integer[0], Result.MatchingValue));
+			cursor = AB_add2C_ABC().batchCursor();
+			printTest("ABC_testNextBatchLargeBuffer", testNextBatch(cursor, new Integer[5], LIST_ABC, Result.MatchingValue));
+			cursor = AB_add2C_ABC().batchCursor();
+			printTest("ABC_testNextBatchZeroBuffer", testNextBatch(cursor, new Integer[0], new Integer[0], Result.MatchingValue));
+			printTest("ABC_nextBatchZeroBuffer_testNextBatchAB", testNextBatch(cursor, buffer, new Integer[] {ELEMENT_A, ELEMENT_B}, Result.MatchingValue));
+
+			//a cursor fails fast once the list changes
+			IndexedUnsortedList<Integer> list = AB_add2C_ABC();
+			cursor = list.batchCursor();
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_addToRearD_testNextBatchConcurrent", testNextBatch(cursor, buffer, null, Result.ConcurrentModification));
+			list = AB_add2C_ABC();
+			cursor = list.batchCursor();
+			cursor.nextBatch(buffer);
+			list.removeFirst();
+			printTest("ABC_nextBatchRemoveFirst_testNextBatchConcurrent", testNextBatch(cursor, buffer, null, Result.ConcurrentModification));
+
+			list = newList();
+			printTest("emptyList_testAddBatchABC", testAddBatch(list, LIST_ABC, 0, 3, Result.NoException));
+			printTest("emptyList_addBatchABC_testContents", testContents(list, LIST_ABC));
+			printTest("ABC_testAddBatchBC", testAddBatch(list, LIST_ABC, 1, 2, Result.NoException));
+			printTest("ABC_addBatchBC_testContents", testContents(list, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_B, ELEMENT_C}));
+			list = AB_add2C_ABC();
+			printTest("ABC_testAddBatchNone", testAddBatch(list, LIST_ABC, 3, 0, Result.NoException));
+			printTest("ABC_testAddBatchPastEnd", testAddBatch(list, LIST_ABC, 2, 2, Result.IndexOutOfBounds));
+			printTest("ABC_testAddBatchNegativeOffset", testAddBatch(list, LIST_ABC, -1, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testAddBatchNegativeLength", testAddBatch(list, LIST_ABC, 0, -1, Result.IndexOutOfBounds));
+			printTest("ABC_badAddBatches_testContents", testContents(list, LIST_ABC));
+			Iterator<Integer> it1 = list.iterator();
+			list.addBatch(LIST_ABC, 0, 1);
+			printTest("ABC_addBatchA_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Batches");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs cursor's nextBatch() method and checks result against expectedResult
+	 * @param cursor a cursor already positioned for the call to nextBatch()
+	 * @param buffer the array to fill
+	 * @param expected the elements expected at the start of buffer, or null if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testNextBatch(IndexedUnsortedList.BatchCursor<Integer> cursor, Integer[] buffer, Integer[] expected, Result expectedResult) {
+		Result result;
+		try {
+			int count = cursor.nextBatch(buffer);
+			if (count == expected.length && Arrays.equals(Arrays.copyOf(buffer, count), expected)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testNextBatch", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's addBatch() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param src the array holding the elements to be added
+	 * @param off the index in src of the first element to add
+	 * @param len the number of elements to add
+	 * @param expectedResult NoException or expected exception
+	 * @return test success
+	 */
+	private boolean testAddBatch(IndexedUnsortedList<Integer> list, Integer[] src, int off, int len, Result expectedResult) {
+		Result result;
+		try {
+			list.addBatch(src, off, len);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddBatch", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Primitive List Tests
+	////////////////////////////////////////////////////////
+
+	/** run IntDoubleLinkedList, LongDoubleLinkedList and DoubleDoubleLinkedList tests */
+	private void test_PrimitiveLists() {
+		System.out.println("\nPrimitive List Tests\n");
+		try {
+			IntDoubleLinkedList ints = new IntDoubleLinkedList();
+			printTest("emptyIntList_testContents", testIntContents(ints, new int[0]));
+			printTest("emptyIntList_testFirst", testIntFirst(ints, 0, Result.NoSuchElement));
+			ints.addToRear(1);
+			ints.addToRear(2);
+			ints.addToRear(3);
+			printTest("int123_testContents", testIntContents(ints, new int[] {1, 2, 3}));
+			printTest("int123_testGet1", testIntGet(ints, 1, 2, Result.MatchingValue));
+			printTest("int123_testGet3", testIntGet(ints, 3, 0, Result.IndexOutOfBounds));
+			printTest("int123_testIndexOf3", ints.indexOf(3) == 2);
+			printTest("int123_testContains4", !ints.contains(4));
+			//removeElement takes a value, never an index
+			printTest("int123_removeElement3_testRemoveElement", testIntRemoveElement(ints, 3, Result.MatchingValue));
+			printTest("int12_removeElement3_testRemoveElement", testIntRemoveElement(ints, 3, Result.NoSuchElement));
+			printTest("int12_testContents", testIntContents(ints, new int[] {1, 2}));
+			ints.add(1, 5);
+			ints.set(0, 7);
+			printTest("int12_add1_5_set0_7_testContents", testIntContents(ints, new int[] {7, 5, 2}));
+			printTest("int752_remove0_testRemove", ints.remove(0) == 7);
+			printTest("int52_testContents", testIntContents(ints, new int[] {5, 2}));
+
+			//the iterator fails fast like the object lists
+			Iterator<Integer> it = ints.iterator();
+			ints.addToFront(9);
+			printTest("int52_iterAddToFront9_testIterHasNextConcurrent", testIterHasNext(it, Result.ConcurrentModification));
+
+			LongDoubleLinkedList longs = new LongDoubleLinkedList();
+			longs.addToRear(Long.MAX_VALUE);
+			longs.addToFront(Long.MIN_VALUE);
+			longs.addAfter(-1L, Long.MIN_VALUE);
+			printTest("longMinNeg1Max_testContents", testLongContents(longs, new long[] {Long.MIN_VALUE, -1L, Long.MAX_VALUE}));
+			printTest("longMinNeg1Max_testIndexOfMax", longs.indexOf(Long.MAX_VALUE) == 2);
+			printTest("longMinNeg1Max_testLast", longs.last() == Long.MAX_VALUE);
+			longs.removeFirst();
+			longs.removeLast();
+			printTest("longNeg1_testContents", testLongContents(longs, new long[] {-1L}));
+
+			//elements are compared with Double.compare, not ==
+			DoubleDoubleLinkedList doubles = new DoubleDoubleLinkedList();
+			doubles.addToRear(Double.NaN);
+			doubles.addToRear(0.0);
+			doubles.addToRear(1.5);
+			printTest("doubleNaN0_1_5_testIndexOfNaN", doubles.indexOf(Double.NaN) == 0);
+			printTest("doubleNaN0_1_5_testContainsNegativeZero", !doubles.contains(-0.0));
+			printTest("doubleNaN0_1_5_testRemoveElementNaN", Double.isNaN(doubles.removeElement(Double.NaN)));
+			printTest("double0_1_5_testContents", testDoubleContents(doubles, new double[] {0.0, 1.5}));
+
+			//the generated lists must match what generatePrimitiveLists.sh makes from the template
+			if (Files.exists(Paths.get(PRIMITIVE_TEMPLATE))) {
+				printTest("intList_testMatchesTemplate", testMatchesTemplate("int", "Int", "Integer"));
+				printTest("longList_testMatchesTemplate", testMatchesTemplate("long", "Long", "Long"));
+				printTest("doubleList_testMatchesTemplate", testMatchesTemplate("double", "Double", "Double"));
+			} else {
+				System.out.printf("%s not found in the working directory; skipping template checks\n", PRIMITIVE_TEMPLATE);
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_PrimitiveLists");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Fills in the primitive list template the way generatePrimitiveLists.sh does and
+	 * checks that the generated source file on disk is identical
+	 * @param type the primitive element type
+	 * @param capitalType its capitalised name, which prefixes the generated class name
+	 * @param boxed its wrapper class
+	 * @return test success
+	 */
+	private boolean testMatchesTemplate(String type, String capitalType, String boxed) {
+		try {
+			String expected = Files.readString(Paths.get(PRIMITIVE_TEMPLATE))
+					.replace("$type$", type).replace("$Type$", capitalType).replace("$Boxed$", boxed);
+			Path generated = Paths.get(capitalType + "DoubleLinkedList.java");
+			if (!expected.equals(Files.readString(generated))) {
+				System.out.printf("%s is out of date; run generatePrimitiveLists.sh\n", generated);
+				return false;
+			}
+			return true;
+		} catch (IOException e) {
+			System.out.printf("%s caught unexpected %s\n", "testMatchesTemplate", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Walks list's unboxed iterator and checks that it holds exactly the expected elements, in order
+	 * @param list a list already prepared for a given change scenario
+	 * @param expected the elements the list should hold, in order
+	 * @return test success
+	 */
+	private boolean testIntContents(IntDoubleLinkedList list, int[] expected) {
+		try {
+			int[] contents = new int[list.size()];
+			PrimitiveIterator.OfInt it = list.iterator();
+			for (int i = 0; i < contents.length; i++) {
+				contents[i] = it.nextInt();
+			}
+			return !it.hasNext() && Arrays.equals(contents, expected);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIntContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Walks list's unboxed iterator and checks that it holds exactly the expected elements, in order
+	 * @param list a list already prepared for a given change scenario
+	 * @param expected the elements the list should hold, in order
+	 * @return test success
+	 */
+	private boolean testLongContents(LongDoubleLinkedList list, long[] expected) {
+		try {
+			long[] contents = new long[list.size()];
+			PrimitiveIterator.OfLong it = list.iterator();
+			for (int i = 0; i < contents.length; i++) {
+				contents[i] = it.nextLong();
+			}
+			return !it.hasNext() && Arrays.equals(contents, expected);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testLongContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Walks list's unboxed iterator and checks that it holds exactly the expected elements, in order
+	 * @param list a list already prepared for a given change scenario
+	 * @param expected the elements the list should hold, in order
+	 * @return test success
+	 */
+	private boolean testDoubleContents(DoubleDoubleLinkedList list, double[] expected) {
+		try {
+			double[] contents = new double[list.size()];
+			PrimitiveIterator.OfDouble it = list.iterator();
+			for (int i = 0; i < contents.length; i++) {
+				contents[i] = it.nextDouble();
+			}
+			return !it.hasNext() && Arrays.equals(contents, expected);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testDoubleContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs list's first() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param expectedElement the element expected from first(), ignored if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testIntFirst(IntDoubleLinkedList list, int expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			if (list.first() == expectedElement) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIntFirst", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's get() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index the index to read
+	 * @param expectedElement the element expected from get(), ignored if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testIntGet(IntDoubleLinkedList list, int index, int expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			if (list.get(index) == expectedElement) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIntGet", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's removeElement() method and checks result against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param element the value to remove
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testIntRemoveElement(IntDoubleLinkedList list, int element, Result expectedResult) {
+		Result result;
+		try {
+			if (list.removeElement(element) == element) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIntRemoveElement", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Off-Heap Record Tests
+	////////////////////////////////////////////////////////
+
+	/** run OffHeapRecordList tests */
+	private void test_OffHeapRecords() {
+		System.out.println("\nOff-Heap Record Tests\n");
+		try {
+			//two records per chunk, so five records take three chunks
+			OffHeapRecordList records = new OffHeapRecordList(2, 2);
+			printTest("emptyRecords_testGet0", testGetRecord(records, 0, new long[0], Result.IndexOutOfBounds));
+			for (int i = 0; i < 5; i++) {
+				records.addToRear().setLong(0, i).setLong(1, i * 10);
+			}
+			printTest("records01234_testSize", records.size() == 5);
+			printTest("records01234_testToString", records.toString().equals("[(0,0),(1,10),(2,20),(3,30),(4,40)]"));
+			printTest("records01234_testGet1", testGetRecord(records, 1, new long[] {1, 10}, Result.MatchingValue));
+			printTest("records01234_testGet3", testGetRecord(records, 3, new long[] {3, 30}, Result.MatchingValue));
+			printTest("records01234_testGet5", testGetRecord(records, 5, new long[0], Result.IndexOutOfBounds));
+			printTest("records01234_testFirst", testRecord(records.first(), new long[] {0, 0}, Result.MatchingValue));
+			printTest("records01234_testLast", testRecord(records.last(), new long[] {4, 40}, Result.MatchingValue));
+			printTest("records01234_testField2", testRecord(records.first(), new long[] {0, 0, 0}, Result.IndexOutOfBounds));
+
+			//fields are written in place
+			records.get(2).setLong(1, 99);
+			printTest("records01234_set2_1_99_testGet2", testGetRecord(records, 2, new long[] {2, 99}, Result.MatchingValue));
+
+			//freed slots are reused and come back zeroed
+			records.removeFirst();
+			records.removeLast();
+			records.addToFront();
+			printTest("records123_addToFront_testFirst", testRecord(records.first(), new long[] {0, 0}, Result.MatchingValue));
+			printTest("records0123_testToString", records.toString().equals("[(0,0),(1,10),(2,99),(3,30)]"));
+			Iterator<OffHeapRecordList.Record> it = records.iterator();
+			it.next();
+			it.next();
+			it.remove();
+			printTest("records0123_iterRemoveAfterNextNext_testToString", records.toString().equals("[(0,0),(2,99),(3,30)]"));
+			printTest("records023_testGet1", testGetRecord(records, 1, new long[] {2, 99}, Result.MatchingValue));
+
+			//a view of a removed record fails instead of reading the freed slot
+			it = records.iterator();
+			OffHeapRecordList.Record removed = it.next();
+			it.remove();
+			printTest("records023_iterRemove0_testRecord", testRecord(removed, new long[] {0}, Result.ConcurrentModification));
+			OffHeapRecordList.Record last = records.last();
+			records.removeLast();
+			printTest("records23_removeLast_testRecord", testRecord(last, new long[] {3}, Result.ConcurrentModification));
+			printTest("records2_testFirst", testRecord(records.first(), new long[] {2, 99}, Result.MatchingValue));
+
+			//a closed list releases its chunks and refuses further use
+			records.close();
+			printTest("closedRecords_testSize", records.size() == 0);
+			printTest("closedRecords_testGet0", testGetRecord(records, 0, new long[0], Result.IllegalState));
+			printTest("closedRecords_testRecord", testRecord(last, new long[] {3}, Result.IllegalState));
+			records.close();
+			printTest("closedTwiceRecords_testSize", records.size() == 0);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_OffHeapRecords");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Reads a record's fields and checks them against expectedResult
+	 * @param record a record view already positioned on the record to read
+	 * @param expected the values expected in fields 0 to expected.length - 1
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testRecord(OffHeapRecordList.Record record, long[] expected, Result expectedResult) {
+		Result result;
+		try {
+			result = Result.MatchingValue;
+			for (int field = 0; field < expected.length; field++) {
+				if (record.getLong(field) != expected[field]) {
+					result = Result.Fail;
+				}
+			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRecord", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Runs list's get() method and checks the record's fields against expectedResult
+	 * @param list a list already prepared for a given change scenario
+	 * @param index the index of the record to read
+	 * @param expected the values expected in the record's fields, ignored if an exception is expected
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testGetRecord(OffHeapRecordList list, int index, long[] expected, Result expectedResult) {
+		Result result;
+		try {
+			OffHeapRecordList.Record record = list.get(index);
+			result = testRecord(record, expected, Result.MatchingValue) ? Result.MatchingValue : Result.Fail;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testGetRecord", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Concurrent Deque Tests
+	////////////////////////////////////////////////////////
+
+	/** run IUConcurrentDeque tests */
+	private void test_ConcurrentDeque() {
+		System.out.println("\nConcurrent Deque Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			IUConcurrentDeque<Integer> deque = new IUConcurrentDeque<Integer>();
+			printTest("emptyDeque_testRemoveFirst", testRemoveFirst(deque, null, Result.NoSuchElement));
+			deque.addToRear(ELEMENT_B);
+			deque.addToFront(ELEMENT_A);
+			printTest("AB_addAtIndex2C_testAddAtIndex", testAddAtIndex(deque, 2, ELEMENT_C, Result.NoException));
+			printTest("ABC_testContents", testContents(deque, LIST_ABC));
+			printTest("ABC_testGet1", testGet(deque, 1, ELEMENT_B, Result.MatchingValue));
+			printTest("ABC_testIndexOfC", testIndexOf(deque, ELEMENT_C, 2));
+
+			//operations that need a stable middle of the list are not supported
+			printTest("ABC_testSet1D", testSet(deque, 1, ELEMENT_D, Result.UnsupportedOperation));
+			printTest("ABC_testAddAfterAD", testAddAfter(deque, ELEMENT_A, ELEMENT_D, Result.UnsupportedOperation));
+			printTest("ABC_testAddAtIndex1D", testAddAtIndex(deque, 1, ELEMENT_D, Result.UnsupportedOperation));
+			printTest("ABC_testRemoveRange0_2", testRemoveRange(deque, 0, 2, Result.UnsupportedOperation));
+			printTest("ABC_testListIter", testListIter(deque, Result.UnsupportedOperation));
+			printTest("ABC_testListIter1", testListIter(deque, 1, Result.UnsupportedOperation));
+			printTest("ABC_testUnchanged", testContents(deque, LIST_ABC));
+
+			//bulk adds only at the ends, and an unsupported index changes nothing
+			deque = new IUConcurrentDeque<Integer>();
+			deque.addToRear(ELEMENT_B);
+			printTest("B_testAddAll0AC", testAddAllAtIndex(deque, 0, Arrays.asList(ELEMENT_A, ELEMENT_C), Result.NoException));
+			printTest("B_addAll0AC_testContents", testContents(deque, new Integer[] {ELEMENT_A, ELEMENT_C, ELEMENT_B}));
+			printTest("ACB_testAddAll3D", testAddAllAtIndex(deque, 3, Arrays.asList(ELEMENT_D), Result.NoException));
+			printTest("ACB_addAll3D_testContents", testContents(deque, new Integer[] {ELEMENT_A, ELEMENT_C, ELEMENT_B, ELEMENT_D}));
+			printTest("ACBD_testAddAll2AB", testAddAllAtIndex(deque, 2, Arrays.asList(ELEMENT_A, ELEMENT_B), Result.UnsupportedOperation));
+			printTest("ACBD_testAddAll5A", testAddAllAtIndex(deque, 5, Arrays.asList(ELEMENT_A), Result.IndexOutOfBounds));
+			printTest("ACBD_badAddAlls_testContents", testContents(deque, new Integer[] {ELEMENT_A, ELEMENT_C, ELEMENT_B, ELEMENT_D}));
+			deque = new IUConcurrentDeque<Integer>();
+			deque.addToRear(ELEMENT_A);
+			deque.addToRear(ELEMENT_B);
+			deque.addToRear(ELEMENT_C);
+
+			//iterators are weakly consistent and never fail
+			Iterator<Integer> it = deque.iterator();
+			deque.removeFirst();
+			deque.addToRear(ELEMENT_D);
+			printTest("ABC_iterRemoveFirstAddToRearD_testIterHasNext", testIterHasNext(it, Result.True));
+			printTest("BCD_testRemoveIndex1", testRemoveIndex(deque, 1, ELEMENT_C, Result.MatchingValue));
+			printTest("BD_testClear", testClear(deque, Result.NoException));
+			printTest("BD_clear_testIsEmpty", testIsEmpty(deque, Result.True));
+
+			//clear while another thread consumes from the front
+			final IUConcurrentDeque<Integer> consumed = new IUConcurrentDeque<Integer>();
+			for (int i = 0; i < 100000; i++) {
+				consumed.addToRear(i);
+			}
+			Thread consumer = new Thread(() -> {
+				try {
+					while (true) {
+						consumed.removeFirst();
+					}
+				} catch (NoSuchElementException e) {
+					//drained
+				}
+			});
+			consumer.start();
+			printTest("bigDeque_clearWhileConsuming_testClear", testClear(consumed, Result.NoException));
+			consumer.join();
+			printTest("bigDeque_clearWhileConsuming_testIsEmpty", testIsEmpty(consumed, Result.True));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ConcurrentDeque");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Stamped Lock List Tests
+	////////////////////////////////////////////////////////
+
+	/** run IUStampedLockList tests, wrapping the list under test */
+	private void test_StampedLock() {
+		System.out.println("\nStamped Lock List Tests\n");
+		try {
+			IUStampedLockList<Integer> empty = new IUStampedLockList<Integer>(newList());
+			printTest("stampedEmpty_testFirst", testFirst(empty, null, Result.NoSuchElement));
+			printTest("stampedEmpty_testLast", testLast(empty, null, Result.NoSuchElement));
+			printTest("stampedEmpty_testGet0", testGet(empty, 0, null, Result.IndexOutOfBounds));
+
+			//short reads near either end are optimistic
+			IUStampedLockList<Integer> stamped = new IUStampedLockList<Integer>(AB_add2C_ABC());
+			printTest("stampedABC_testFirst", testFirst(stamped, ELEMENT_A, Result.MatchingValue));
+			printTest("stampedABC_testLast", testLast(stamped, ELEMENT_C, Result.MatchingValue));
+			printTest("stampedABC_testGet1", testGet(stamped, 1, ELEMENT_B, Result.MatchingValue));
+			printTest("stampedABC_testGet3", testGet(stamped, 3, null, Result.IndexOutOfBounds));
+			stamped.addToFront(ELEMENT_D);
+			printTest("stampedABC_addToFrontD_testFirst", testFirst(stamped, ELEMENT_D, Result.MatchingValue));
+			printTest("stampedABC_addToFrontD_testGet1", testGet(stamped, 1, ELEMENT_A, Result.MatchingValue));
+
+			//the middle of a long list is read under the read lock
+			IndexedUnsortedList<Integer> longList = newList();
+			for (int i = 0; i < 100; i++) {
+				longList.addToRear(i);
+			}
+			IUStampedLockList<Integer> longStamped = new IUStampedLockList<Integer>(longList);
+			printTest("stampedLong_testGet1", testGet(longStamped, 1, 1, Result.MatchingValue));
+			printTest("stampedLong_testGet50", testGet(longStamped, 50, 50, Result.MatchingValue));
+			printTest("stampedLong_testGet98", testGet(longStamped, 98, 98, Result.MatchingValue));
+
+			//iterators read a snapshot that later changes do not reach
+			Iterator<Integer> it = stamped.iterator();
+			stamped.removeLast();
+			stamped.set(0, ELEMENT_X);
+			printTest("stampedDABC_iterRemoveLastSet0X_testIterNext", testIterNext(it, ELEMENT_D, Result.MatchingValue));
+			printTest("stampedDABC_iterRemoveLastSet0X_testIterRemove", testIterRemove(it, Result.UnsupportedOperation));
+			printTest("stampedDABC_iterRemoveLastSet0X_testIterNextA", testIterNext(it, ELEMENT_A, Result.MatchingValue));
+			printTest("stampedDABC_iterRemoveLastSet0X_testIterNextB", testIterNext(it, ELEMENT_B, Result.MatchingValue));
+			printTest("stampedDABC_iterRemoveLastSet0X_testIterNextC", testIterNext(it, ELEMENT_C, Result.MatchingValue));
+			printTest("stampedDABC_iterRemoveLastSet0X_testIterHasNext", testIterHasNext(it, Result.False));
+			printTest("stampedXAB_testContents", testContents(stamped, new Integer[] {ELEMENT_X, ELEMENT_A, ELEMENT_B}));
+
+			//optimistic reads stay consistent while another thread writes at the front
+			final IUStampedLockList<Integer> shared = new IUStampedLockList<Integer>(AB_add2C_ABC());
+			Thread writer = new Thread(() -> {
+				for (int i = 0; i < 20000; i++) {
+					shared.addToFront(ELEMENT_D);
+					shared.removeFirst();
+				}
+			});
+			writer.start();
+			printTest("stampedABC_readWhileWriting_testOptimisticReads", testOptimisticReads(shared, writer, Result.MatchingValue));
+			writer.join();
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_StampedLock");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Reads first(), last() and size() of an ABC list until writer finishes, while writer
+	 * adds D to the front and removes it again, and checks every read against expectedResult
+	 * @param list an ABC list shared with writer
+	 * @param writer a started thread that only adds and removes D at the front
+	 * @param expectedResult MatchingValue or expected exception
+	 * @return test success
+	 */
+	private boolean testOptimisticReads(IUStampedLockList<Integer> list, Thread writer, Result expectedResult) {
+		Result result;
+		try {
+			result = Result.MatchingValue;
+			do {
+				Integer first = list.first();
+				Integer last = list.last();
+				int size = list.size();
+				if (!(first.equals(ELEMENT_A) || first.equals(ELEMENT_D)) || !last.equals(ELEMENT_C) || size < 3 || size > 4) {
+					result = Result.Fail;
+				}
+			} while (writer.isAlive());
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testOptimisticReads", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Snapshot Tests
+	// Only run for IUPersistentList
+	////////////////////////////////////////////////////////
+
+	/** run IUPersistentList snapshot() tests */
+	private void test_Snapshots() {
+		System.out.println("\nSnapshot Tests\n");
+		try {
+			Integer[] LIST_ABC = {ELEMENT_A, ELEMENT_B, ELEMENT_C};
+			IUPersistentList<Integer> list = (IUPersistentList<Integer>) newList();
+			IndexedUnsortedList<Integer> emptySnapshot = list.snapshot();
+			list.addToRear(ELEMENT_A);
+			printTest("emptyList_snapshotAddToRearA_testSnapshotIsEmpty", testIsEmpty(emptySnapshot, Result.True));
+
+			//later changes to the list never show through a snapshot
+			list = (IUPersistentList<Integer>) AB_add2C_ABC();
+			IndexedUnsortedList<Integer> snapshot = list.snapshot();
+			Iterator<Integer> it = snapshot.iterator();
+			list.addToFront(ELEMENT_D);
+			list.set(2, ELEMENT_X);
+			list.removeLast();
+			printTest("ABC_snapshotChangeList_testListContents", testContents(list, new Integer[] {ELEMENT_D, ELEMENT_A, ELEMENT_X}));
+			printTest("ABC_snapshotChangeList_testSnapshotContents", testContents(snapshot, LIST_ABC));
+			printTest("ABC_snapshotChangeList_testSnapshotGet2", testGet(snapshot, 2, ELEMENT_C, Result.MatchingValue));
+			printTest("ABC_snapshotChangeList_testSnapshotIndexOfD", testIndexOf(snapshot, ELEMENT_D, -1));
+			printTest("ABC_snapshotChangeList_testSnapshotContainsX", testContains(snapshot, ELEMENT_X, Result.False));
+			printTest("ABC_snapshotChangeList_testSnapshotLast", testLast(snapshot, ELEMENT_C, Result.MatchingValue));
+
+			//snapshot iterators never fail
+			printTest("ABC_snapshotIterChangeList_testIterNext", testIterNext(it, ELEMENT_A, Result.MatchingValue));
+			list.removeFirst();
+			printTest("ABC_snapshotIterChangeList_testIterNextB", testIterNext(it, ELEMENT_B, Result.MatchingValue));
+
+			//a second snapshot sees the list as it is now, and both stay independent
+			IndexedUnsortedList<Integer> later = list.snapshot();
+			list.addToRear(ELEMENT_B);
+			printTest("AX_snapshot_testLaterContents", testContents(later, new Integer[] {ELEMENT_A, ELEMENT_X}));
+			printTest("AX_snapshot_testFirstSnapshotContents", testContents(snapshot, LIST_ABC));
+
+			//snapshots are read-only
+			printTest("ABC_snapshot_testSet0D", testSet(snapshot, 0, ELEMENT_D, Result.UnsupportedOperation));
+			printTest("ABC_snapshot_testAddAtIndex0D", testAddAtIndex(snapshot, 0, ELEMENT_D, Result.UnsupportedOperation));
+			printTest("ABC_snapshot_testRemoveRange0_1", testRemoveRange(snapshot, 0, 1, Result.UnsupportedOperation));
+			printTest("ABC_snapshot_testUnchanged", testContents(snapshot, LIST_ABC));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Snapshots");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
 }// end class IndexedUnsortedListTester
 
 /** Interface for builder method Lambda references used above */
@@ -0,0 +1,623 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Double linked list of fixed-width records stored outside the Java heap.
+ * Every record has the same number of long fields, such as an id and a
+ * timestamp. Records live in fixed-width slots of direct ByteBuffer chunks,
+ * and each slot also holds the int slot numbers of its neighbours. The heap
+ * therefore holds only the chunk references, not one object per record.
+ *
+ * Fields are read and written through Record flyweights rather than
+ * materialized objects. first(), last(), get(int), addToFront() and
+ * addToRear() all return the same Record, positioned on the requested
+ * record and repositioned by the next such call. Each iterator has its own.
+ * A Record is only valid until the list is next changed: reading or writing
+ * it after a record has been added or removed throws
+ * ConcurrentModificationException instead of touching a slot that may have
+ * been freed or reused.
+ *
+ * The arena uses direct ByteBuffers because java.lang.foreign is not final
+ * on the JDK this code targets. close() makes the list unusable and runs
+ * every chunk's cleaner through sun.misc.Unsafe.invokeCleaner, so the native
+ * memory is freed before close() returns. On a JVM without that method the
+ * chunks are only dropped, and the memory is freed when the garbage
+ * collector runs their cleaners.
+ * @author Caleb Corolewski
+ * @Date June 2025
+ */
+public class OffHeapRecordList implements Iterable<OffHeapRecordList.Record>, AutoCloseable
+{
+    private static final int NIL = -1;
+    private static final int DEFAULT_CHUNK_SLOTS = 1 << 16;
+    //each slot starts with the int slot numbers of its previous and next record
+    private static final int PREV_OFFSET = 0;
+    private static final int NEXT_OFFSET = 4;
+    private static final int FIELDS_OFFSET = 8;
+    //sun.misc.Unsafe and its invokeCleaner(ByteBuffer), or null if this JVM does not have them
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static
+    {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try
+        {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch(ReflectiveOperationException | RuntimeException e)
+        {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final int fieldCount;
+    private final int slotWidth;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ArrayList<ByteBuffer> chunks;
+    private final Record cursor;
+    private int head;
+    private int tail;
+    private int freeHead;
+    private int used;
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructor for an off-heap record list
+     *
+     * @param fieldCount the number of long fields in every record
+     * @throws IllegalArgumentException if fieldCount is less than 1
+     */
+    public OffHeapRecordList(int fieldCount)
+    {
+        this(fieldCount, DEFAULT_CHUNK_SLOTS);
+    }
+
+    /**
+     * Constructor for an off-heap record list that allocates memory in chunks of the given number of records
+     *
+     * @param fieldCount the number of long fields in every record
+     * @param chunkSlots the number of records per chunk, rounded up to a power of two
+     * @throws IllegalArgumentException if fieldCount or chunkSlots is less than 1,
+     *         or a chunk would not fit in one ByteBuffer
+     */
+    public OffHeapRecordList(int fieldCount, int chunkSlots)
+    {
+        if(fieldCount < 1 || chunkSlots < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.fieldCount = fieldCount;
+        slotWidth = FIELDS_OFFSET + fieldCount * Long.BYTES;
+        chunkShift = 32 - Integer.numberOfLeadingZeros(chunkSlots - 1);
+        chunkMask = (1 << chunkShift) - 1;
+        if((long) slotWidth << chunkShift > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException();
+        }
+        chunks = new ArrayList<ByteBuffer>();
+        cursor = new Record();
+        head = tail = freeHead = NIL;
+        used = 0;
+        size = 0;
+        modCount = 0;
+    }
+
+    /**
+     * Adds a zeroed record to the front of this list.
+     *
+     * @return the shared Record positioned on the new record, ready for its fields to be set
+     * @throws IllegalStateException if the list has been closed
+     */
+    public Record addToFront()
+    {
+        checkOpen();
+        int slot = linkBefore(head);
+        modCount++;
+        cursor.position(slot);
+        return cursor;
+    }
+
+    /**
+     * Adds a zeroed record to the rear of this list.
+     *
+     * @return the shared Record positioned on the new record, ready for its fields to be set
+     * @throws IllegalStateException if the list has been closed
+     */
+    public Record addToRear()
+    {
+        checkOpen();
+        int slot = linkBefore(NIL);
+        modCount++;
+        cursor.position(slot);
+        return cursor;
+    }
+
+    /**
+     * Removes the first record from this list.
+     *
+     * @throws NoSuchElementException if list contains no records
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void removeFirst()
+    {
+        checkOpen();
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        unlink(head);
+        modCount++;
+    }
+
+    /**
+     * Removes the last record from this list.
+     *
+     * @throws NoSuchElementException if list contains no records
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void removeLast()
+    {
+        checkOpen();
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        unlink(tail);
+        modCount++;
+    }
+
+    /**
+     * Returns the first record in this list.
+     *
+     * @return the shared Record positioned on the first record
+     * @throws NoSuchElementException if list contains no records
+     * @throws IllegalStateException if the list has been closed
+     */
+    public Record first()
+    {
+        checkOpen();
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        cursor.position(head);
+        return cursor;
+    }
+
+    /**
+     * Returns the last record in this list.
+     *
+     * @return the shared Record positioned on the last record
+     * @throws NoSuchElementException if list contains no records
+     * @throws IllegalStateException if the list has been closed
+     */
+    public Record last()
+    {
+        checkOpen();
+        if(size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        cursor.position(tail);
+        return cursor;
+    }
+
+    /**
+     * Returns the record at the specified index, walking from whichever end is nearer.
+     *
+     * @param index the index of the record to be retrieved
+     * @return the shared Record positioned on the record at index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+     * @throws IllegalStateException if the list has been closed
+     */
+    public Record get(int index)
+    {
+        checkOpen();
+        if(index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot;
+        if(index < size / 2)
+        {
+            slot = head;
+            for(int i = 0; i < index; i++)
+            {
+                slot = nextOf(slot);
+            }
+        } else
+        {
+            slot = tail;
+            for(int i = size - 1; i > index; i--)
+            {
+                slot = prevOf(slot);
+            }
+        }
+        cursor.position(slot);
+        return cursor;
+    }
+
+    /**
+     * Returns true if this list contains no records.
+     *
+     * @return true if this list contains no records
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of records in this list.
+     *
+     * @return the integer representation of number of records in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the number of long fields in every record.
+     *
+     * @return the number of fields per record
+     */
+    public int fieldCount()
+    {
+        return fieldCount;
+    }
+
+    /**
+     * Returns an Iterator over the records in this list. The iterator hands
+     * out one Record of its own, repositioned on every call to next().
+     *
+     * @return an Iterator over the records in this list
+     * @throws IllegalStateException if the list has been closed
+     */
+    @Override
+    public Iterator<Record> iterator()
+    {
+        checkOpen();
+        return new RecordIterator();
+    }
+
+    /**
+     * Releases every chunk of the arena, freeing its native memory before
+     * returning where the JVM allows it. The list and any Record views
+     * must not be used afterwards. Closing a closed list does nothing.
+     */
+    @Override
+    public void close()
+    {
+        ArrayList<ByteBuffer> released = chunks;
+        chunks = null;
+        head = tail = freeHead = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+        if(released != null && INVOKE_CLEANER != null)
+        {
+            try
+            {
+                for(ByteBuffer chunk : released)
+                {
+                    INVOKE_CLEANER.invoke(UNSAFE, chunk);
+                }
+            } catch(ReflectiveOperationException e)
+            {
+                //leave the remaining chunks to the garbage collector
+            }
+        }
+    }
+
+    /**
+     * Returns a string representation of this list, one bracketed group of fields per record.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder string = new StringBuilder("[");
+        if(chunks != null)
+        {
+            for(int slot = head; slot != NIL; slot = nextOf(slot))
+            {
+                string.append("(");
+                for(int field = 0; field < fieldCount; field++)
+                {
+                    string.append(chunk(slot).getLong(fieldOffset(slot, field)));
+                    if(field < fieldCount - 1)
+                    {
+                        string.append(",");
+                    }
+                }
+                string.append(")");
+                if(slot != tail)
+                {
+                    string.append(",");
+                }
+            }
+        }
+        string.append("]");
+        return string.toString();
+    }
+
+    private void checkOpen()
+    {
+        if(chunks == null)
+        {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    private ByteBuffer chunk(int slot)
+    {
+        return chunks.get(slot >>> chunkShift);
+    }
+
+    private int offset(int slot)
+    {
+        return (slot & chunkMask) * slotWidth;
+    }
+
+    private int fieldOffset(int slot, int field)
+    {
+        return offset(slot) + FIELDS_OFFSET + field * Long.BYTES;
+    }
+
+    private int prevOf(int slot)
+    {
+        return chunk(slot).getInt(offset(slot) + PREV_OFFSET);
+    }
+
+    private int nextOf(int slot)
+    {
+        return chunk(slot).getInt(offset(slot) + NEXT_OFFSET);
+    }
+
+    private void setPrev(int slot, int prevSlot)
+    {
+        chunk(slot).putInt(offset(slot) + PREV_OFFSET, prevSlot);
+    }
+
+    private void setNext(int slot, int nextSlot)
+    {
+        chunk(slot).putInt(offset(slot) + NEXT_OFFSET, nextSlot);
+    }
+
+    /**
+     * Takes a slot from the free list, or the next unused slot, adding a chunk when full.
+     *
+     * @return a slot ready to be linked, with its fields zeroed
+     */
+    private int allocate()
+    {
+        int slot;
+        if(freeHead != NIL)
+        {
+            slot = freeHead;
+            freeHead = nextOf(slot);
+        } else
+        {
+            if(used == Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("list is full");
+            }
+            if((used >>> chunkShift) == chunks.size())
+            {
+                chunks.add(ByteBuffer.allocateDirect(slotWidth << chunkShift).order(ByteOrder.nativeOrder()));
+            }
+            slot = used++;
+        }
+        ByteBuffer chunk = chunk(slot);
+        for(int field = 0; field < fieldCount; field++)
+        {
+            chunk.putLong(fieldOffset(slot, field), 0L);
+        }
+        return slot;
+    }
+
+    /**
+     * Links a new record before nextSlot, or at the rear if nextSlot is NIL.
+     * Updates size but not modCount.
+     *
+     * @param nextSlot the slot that will follow the new one, or NIL
+     * @return the new slot
+     */
+    private int linkBefore(int nextSlot)
+    {
+        int slot = allocate();
+        int prevSlot = nextSlot == NIL ? tail : prevOf(nextSlot);
+        setPrev(slot, prevSlot);
+        setNext(slot, nextSlot);
+        if(prevSlot == NIL)
+        {
+            head = slot;
+        } else
+        {
+            setNext(prevSlot, slot);
+        }
+        if(nextSlot == NIL)
+        {
+            tail = slot;
+        } else
+        {
+            setPrev(nextSlot, slot);
+        }
+        size++;
+        return slot;
+    }
+
+    /**
+     * Unlinks a slot and returns it to the free list.
+     * Updates size but not modCount.
+     *
+     * @param slot the slot to unlink
+     */
+    private void unlink(int slot)
+    {
+        int prevSlot = prevOf(slot);
+        int nextSlot = nextOf(slot);
+        if(prevSlot == NIL)
+        {
+            head = nextSlot;
+        } else
+        {
+            setNext(prevSlot, nextSlot);
+        }
+        if(nextSlot == NIL)
+        {
+            tail = prevSlot;
+        } else
+        {
+            setPrev(nextSlot, prevSlot);
+        }
+        setNext(slot, freeHead);
+        freeHead = slot;
+        size--;
+    }
+
+    /**
+     * A flyweight view of one record, read and written in place.
+     */
+    public final class Record
+    {
+        private int slot;
+        private int viewModCount;
+
+        private Record()
+        {
+            slot = NIL;
+            viewModCount = modCount;
+        }
+
+        /**
+         * Positions this view on a slot as of the list's current modCount.
+         *
+         * @param slot the slot of the record to view
+         */
+        private void position(int slot)
+        {
+            this.slot = slot;
+            viewModCount = modCount;
+        }
+
+        /**
+         * Returns one field of the record this view is positioned on.
+         *
+         * @param field the field number, from 0 to fieldCount - 1
+         * @return the value of the field
+         * @throws IndexOutOfBoundsException if field is out of range
+         * @throws ConcurrentModificationException if the list has changed since this view was positioned
+         */
+        public long getLong(int field)
+        {
+            checkField(field);
+            return chunk(slot).getLong(fieldOffset(slot, field));
+        }
+
+        /**
+         * Sets one field of the record this view is positioned on.
+         *
+         * @param field the field number, from 0 to fieldCount - 1
+         * @param value the new value of the field
+         * @return this view, so that several fields can be set in one statement
+         * @throws IndexOutOfBoundsException if field is out of range
+         * @throws ConcurrentModificationException if the list has changed since this view was positioned
+         */
+        public Record setLong(int field, long value)
+        {
+            checkField(field);
+            chunk(slot).putLong(fieldOffset(slot, field), value);
+            return this;
+        }
+
+        private void checkField(int field)
+        {
+            checkOpen();
+            if(viewModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(field < 0 || field >= fieldCount)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+    }
+
+    private class RecordIterator implements Iterator<Record>
+    {
+        //variables
+        private int nextSlot;
+        private int iterModCount;
+        private int lastReturned;
+        private final Record view;
+
+        //constructor
+        public RecordIterator()
+        {
+            nextSlot = head;
+            this.iterModCount = modCount;
+            lastReturned = NIL;
+            view = new Record();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            return nextSlot != NIL;
+        }
+
+        @Override
+        public Record next()
+        {
+            if(!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot;
+            nextSlot = nextOf(nextSlot);
+            view.position(lastReturned);
+            return view;
+        }
+
+        @Override
+        public void remove()
+        {
+            if(iterModCount != modCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if(lastReturned == NIL)
+            {
+                throw new IllegalStateException();
+            }
+            unlink(lastReturned);
+            modCount++;
+            iterModCount++;
+            lastReturned = NIL;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+#!/bin/sh
+# Regenerates the primitive double linked lists from PrimitiveDoubleLinkedList.template.
+# Run from the directory holding the template after changing it.
+# With --check, writes nothing and exits 1 if any generated file differs from the template output.
+#   type   - the primitive element type
+#   Type   - its capitalised name, used for class names and PrimitiveIterator.OfType
+#   Boxed  - its wrapper class, used for Iterable and compare()
+
+check=false
+if [ "$1" = "--check" ]; then
+	check=true
+fi
+stale=0
+
+generate() {
+	if $check; then
+		sed -e "s/\\\$type\\\$/$1/g" -e "s/\\\$Type\\\$/$2/g" -e "s/\\\$Boxed\\\$/$3/g" \
+			PrimitiveDoubleLinkedList.template | cmp -s - "$2DoubleLinkedList.java" || {
+			echo "$2DoubleLinkedList.java is out of date with PrimitiveDoubleLinkedList.template" >&2
+			stale=1
+		}
+	else
+		sed -e "s/\\\$type\\\$/$1/g" -e "s/\\\$Type\\\$/$2/g" -e "s/\\\$Boxed\\\$/$3/g" \
+			PrimitiveDoubleLinkedList.template > "$2DoubleLinkedList.java"
+	fi
+}
+
+generate int Int Integer
+generate long Long Long
+generate double Double Double
+exit $stale